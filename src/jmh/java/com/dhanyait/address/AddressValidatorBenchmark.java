@@ -0,0 +1,87 @@
+package com.dhanyait.address;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * AddressValidator over valid and invalid payloads, against a regex postcode check
+ *
+ * The regex variants compile the pattern per call (what the validator avoids) and
+ * once up front, so the cost of the hand-written matcher can be read against both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressValidatorBenchmark {
+
+    private static final String UK_POSTCODE_REGEX =
+            "(?i)(GIR ?0AA|[A-Z]{1,2}[0-9][0-9A-Z]? ?[0-9][A-Z]{2})";
+    private static final Pattern UK_POSTCODE = Pattern.compile(UK_POSTCODE_REGEX);
+
+    private static final String[] VALID_POSTCODES = {"SW1A 1AA", "EH1 2NG", "BT1 5GS", "CF10 3ND", "M1 1AE", "GIR 0AA"};
+    private static final String[] INVALID_POSTCODES = {"SW1A 1A", "INVALID", "12345", "SW1A-1AA", "Q1 1AA!", ""};
+
+    private final List<String> validLines = List.of("Flat 5B", "Westminster Palace", "London");
+    private final List<String> legacyLines = List.of("Flat 2", "The Old Mill", "Mill Lane", "Little Snoring", "Norfolk");
+    private final List<String> invalidLines = List.of("", "x".repeat(AddressValidator.MAX_LINE_LENGTH + 1),
+            "a", "b", "c", "d");
+
+    private int next;
+
+    private int nextIndex() {
+        next = (next + 1) % VALID_POSTCODES.length;
+        return next;
+    }
+
+    @Benchmark
+    public List<String> validateValid() {
+        return AddressValidator.validate(validLines, VALID_POSTCODES[nextIndex()], "GB");
+    }
+
+    @Benchmark
+    public List<String> validateValidLegacy() {
+        return AddressValidator.validate(legacyLines, VALID_POSTCODES[nextIndex()], "GB");
+    }
+
+    @Benchmark
+    public List<String> validateInvalid() {
+        // Every field fails, so all errors are collected in one pass
+        return AddressValidator.validate(invalidLines, INVALID_POSTCODES[nextIndex()], "GB");
+    }
+
+    @Benchmark
+    public void postcodeMatcher(Blackhole bh) {
+        int i = nextIndex();
+        bh.consume(AddressValidator.isValidUkPostcode(VALID_POSTCODES[i]));
+        bh.consume(AddressValidator.isValidUkPostcode(INVALID_POSTCODES[i]));
+    }
+
+    @Benchmark
+    public void postcodeRegexPrecompiled(Blackhole bh) {
+        int i = nextIndex();
+        bh.consume(UK_POSTCODE.matcher(VALID_POSTCODES[i]).matches());
+        bh.consume(UK_POSTCODE.matcher(INVALID_POSTCODES[i]).matches());
+    }
+
+    @Benchmark
+    public void postcodeRegexPerRequest(Blackhole bh) {
+        int i = nextIndex();
+        bh.consume(VALID_POSTCODES[i].matches(UK_POSTCODE_REGEX));
+        bh.consume(INVALID_POSTCODES[i].matches(UK_POSTCODE_REGEX));
+    }
+}
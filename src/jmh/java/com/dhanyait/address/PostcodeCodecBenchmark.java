@@ -0,0 +1,163 @@
+package com.dhanyait.address;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packed postcode keys against String keys for sorting, lookup and outward-code range scans
+ *
+ * The index holds {@code size} distinct synthetic postcodes, both as a sorted
+ * long[] of packed codes and as a sorted String[] / HashSet of canonical strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostcodeCodecBenchmark {
+
+    private static final String[] AREAS = {"SW", "EH", "BT", "CF", "M", "B", "LS", "G", "NW", "E"};
+    private static final String LETTERS = "ABDEFGHJLNPQRSTUWXYZ";
+
+    @Param({"100000"})
+    public int size;
+
+    private String[] postcodes;
+    private String[] sortedStrings;
+    private Set<String> stringSet;
+    private long[] codes;
+    private long[] sortedCodes;
+    private String[] queries;
+    private long[] queryCodes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Set<String> unique = new HashSet<>();
+        while (unique.size() < size) {
+            String outward = AREAS[random.nextInt(AREAS.length)] + (1 + random.nextInt(20));
+            String inward = random.nextInt(10) + "" + LETTERS.charAt(random.nextInt(LETTERS.length()))
+                    + LETTERS.charAt(random.nextInt(LETTERS.length()));
+            unique.add(outward + " " + inward);
+        }
+        postcodes = unique.toArray(String[]::new);
+        sortedStrings = postcodes.clone();
+        Arrays.sort(sortedStrings);
+        stringSet = new HashSet<>(unique);
+
+        codes = new long[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = PostcodeCodec.encode(postcodes[i]);
+        }
+        sortedCodes = codes.clone();
+        Arrays.sort(sortedCodes);
+
+        queries = new String[1024];
+        queryCodes = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = postcodes[random.nextInt(size)];
+            queryCodes[i] = PostcodeCodec.encode(queries[i]);
+        }
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (queries.length - 1);
+        return next;
+    }
+
+    @Benchmark
+    public long encode() {
+        return PostcodeCodec.encode(queries[nextQuery()]);
+    }
+
+    @Benchmark
+    public String decode() {
+        return PostcodeCodec.decode(queryCodes[nextQuery()]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long[] sortPacked() {
+        long[] copy = codes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String[] sortStrings() {
+        String[] copy = postcodes.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public boolean lookupPacked() {
+        return Arrays.binarySearch(sortedCodes, queryCodes[nextQuery()]) >= 0;
+    }
+
+    @Benchmark
+    public boolean lookupStringSorted() {
+        return Arrays.binarySearch(sortedStrings, queries[nextQuery()]) >= 0;
+    }
+
+    @Benchmark
+    public boolean lookupStringHashSet() {
+        return stringSet.contains(queries[nextQuery()]);
+    }
+
+    /**
+     * Count the postcodes sharing the query's outward code: two binary searches on primitives
+     */
+    @Benchmark
+    public int outwardRangePacked() {
+        long code = queryCodes[nextQuery()];
+        int from = lowerBound(sortedCodes, PostcodeCodec.outwardRangeStart(code));
+        int to = lowerBound(sortedCodes, PostcodeCodec.outwardRangeEnd(code) + 1);
+        return to - from;
+    }
+
+    /**
+     * The same count over sorted strings: a binary search to the first match, then a prefix scan
+     */
+    @Benchmark
+    public int outwardRangeStrings() {
+        String query = queries[nextQuery()];
+        String prefix = query.substring(0, query.length() - 3);
+        int from = Arrays.binarySearch(sortedStrings, prefix);
+        from = from < 0 ? -from - 1 : from;
+        int to = from;
+        while (to < sortedStrings.length && sortedStrings[to].startsWith(prefix)) {
+            to++;
+        }
+        return to - from;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int index = Arrays.binarySearch(sorted, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && sorted[index - 1] == key) {
+            index--;
+        }
+        return index;
+    }
+}
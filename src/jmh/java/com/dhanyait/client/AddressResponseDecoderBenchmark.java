@@ -0,0 +1,75 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming decode of a response body against the String-based path it replaced
+ *
+ * The String path mirrors {@code BodyHandlers.ofString()} followed by data binding:
+ * the body bytes are first materialised as a String, then parsed into the record.
+ * Run with {@code -prof gc} to compare allocation per operation as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressResponseDecoderBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Param({
+            "get/get-address-success-CID123456.json",
+            "get/get-address-legacy5lines-CID300001.json",
+            "get/get-address-notfound-CID999999.json"
+    })
+    public String stub;
+
+    private byte[] body;
+    private int statusCode;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("stubs/" + stub)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing stub file: " + stub);
+            }
+            body = in.readAllBytes();
+        }
+        statusCode = stub.contains("notfound") ? 404 : 200;
+    }
+
+    @Benchmark
+    public AddressResponse streaming() throws IOException {
+        return AddressResponseDecoder.decode(statusCode, "application/json", new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public AddressResponse stringThenDataBinding() throws IOException {
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (statusCode >= 200 && statusCode < 300) {
+            return new AddressResponse(statusCode, MAPPER.readValue(text, Address.class), null);
+        }
+        return new AddressResponse(statusCode, null, MAPPER.readValue(text, ApiError.class));
+    }
+}
@@ -0,0 +1,169 @@
+package com.dhanyait.address;
+
+/**
+ * Normaliser for free-text address lines
+ *
+ * Canonicalises a single address line (for example one of the five lines of a
+ * legacy UK address) in one pass over a reusable char buffer:
+ * - leading/trailing whitespace and commas are removed
+ * - runs of whitespace collapse to a single space; Unicode space separators such as
+ *   the non-breaking space (U+00A0) common in legacy free-text data count as whitespace
+ * - words are title-cased ("WINDSOR  court" -> "Windsor Court")
+ * - words containing digits are upper-cased ("221b" -> "221B", "flat 7c" -> "Flat 7C"),
+ *   except ordinals, which keep a lower-case suffix ("1ST floor" -> "1st Floor")
+ *
+ * No intermediate Strings are created: the result stays in the internal buffer
+ * until the caller copies it out with {@link #toString()} or {@link #appendTo(StringBuilder)}.
+ * Instances are not thread-safe; keep one per thread and reuse it across lines.
+ */
+public final class AddressLineNormaliser {
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private char[] buffer;
+    private int length;
+
+    public AddressLineNormaliser() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AddressLineNormaliser(int initialCapacity) {
+        this.buffer = new char[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Normalise a line into the internal buffer, replacing the previous result
+     *
+     * @return the length of the normalised line
+     */
+    public int normalise(CharSequence line) {
+        int end = line.length();
+        int start = 0;
+        while (start < end && isTrimmable(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmable(line.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start > buffer.length) {
+            buffer = new char[Math.max(end - start, buffer.length * 2)];
+        }
+
+        length = 0;
+        int wordStart = 0;
+        boolean wordHasDigit = false;
+        boolean pendingSpace = false;
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (isSpace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                finishWord(wordStart, wordHasDigit);
+                buffer[length++] = ' ';
+                wordStart = length;
+                wordHasDigit = false;
+                pendingSpace = false;
+            }
+            if (c == '-' || c == '/') {
+                finishWord(wordStart, wordHasDigit);
+                buffer[length++] = c;
+                wordStart = length;
+                wordHasDigit = false;
+                continue;
+            }
+            if (c >= '0' && c <= '9') {
+                wordHasDigit = true;
+            }
+            buffer[length++] = Character.toLowerCase(c);
+        }
+        finishWord(wordStart, wordHasDigit);
+        return length;
+    }
+
+    /**
+     * @return the length of the last normalised line
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return the backing buffer; only the first {@link #length()} chars are valid
+     */
+    public char[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * Compare the last normalised line with another value without copying
+     */
+    public boolean contentEquals(CharSequence other) {
+        if (other.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append the last normalised line to a caller-owned builder
+     */
+    public StringBuilder appendTo(StringBuilder target) {
+        return target.append(buffer, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void finishWord(int wordStart, boolean wordHasDigit) {
+        if (wordStart >= length) {
+            return;
+        }
+        if (wordHasDigit) {
+            if (isOrdinal(wordStart)) {
+                // Already lower-cased; digits have no case
+                return;
+            }
+            for (int i = wordStart; i < length; i++) {
+                buffer[i] = Character.toUpperCase(buffer[i]);
+            }
+        } else {
+            buffer[wordStart] = Character.toTitleCase(buffer[wordStart]);
+        }
+    }
+
+    /**
+     * @return true if buffer[wordStart, length) is digits followed by st, nd, rd or th
+     */
+    private boolean isOrdinal(int wordStart) {
+        int suffix = length - 2;
+        if (suffix <= wordStart) {
+            return false;
+        }
+        for (int i = wordStart; i < suffix; i++) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                return false;
+            }
+        }
+        char first = buffer[suffix];
+        char second = buffer[suffix + 1];
+        return (first == 's' && second == 't') || (first == 'n' && second == 'd')
+                || (first == 'r' && second == 'd') || (first == 't' && second == 'h');
+    }
+
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private static boolean isTrimmable(char c) {
+        return c == ',' || isSpace(c);
+    }
+}
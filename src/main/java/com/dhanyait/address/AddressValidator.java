@@ -0,0 +1,149 @@
+package com.dhanyait.address;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validator for Citizen Address create requests
+ *
+ * Checks the fields of a POST /citizen/{cid}/address payload:
+ * - address_lines: required, 1 to 5 non-blank lines (legacy 5-line format included)
+ * - postcode: required, must be a well-formed UK postcode when country_code is GB
+ * - country_code: required, two-letter ISO 3166-1 alpha-2 code
+ *
+ * All field errors are collected in a single pass and returned using the same
+ * wording as the "validationErrors" array of the 400 Bad Request contract.
+ * The postcode check is a hand-written character-class matcher, so no regex
+ * is compiled or run per request.
+ */
+public final class AddressValidator {
+
+    public static final int MAX_ADDRESS_LINES = 5;
+    public static final int MAX_LINE_LENGTH = 100;
+
+    private static final String COUNTRY_GB = "GB";
+
+    private AddressValidator() {
+    }
+
+    /**
+     * Validate a create-address payload
+     *
+     * @return the validation errors, empty when the payload is valid
+     */
+    public static List<String> validate(List<String> addressLines, String postcode, String countryCode) {
+        List<String> errors = new ArrayList<>(4);
+
+        if (addressLines == null || addressLines.isEmpty()) {
+            errors.add("address_lines is required");
+        } else {
+            if (addressLines.size() > MAX_ADDRESS_LINES) {
+                errors.add("address_lines must not contain more than " + MAX_ADDRESS_LINES + " lines");
+            }
+            for (int i = 0; i < addressLines.size(); i++) {
+                String line = addressLines.get(i);
+                if (line == null || line.isBlank()) {
+                    errors.add("address_lines[" + i + "] must not be blank");
+                } else if (line.length() > MAX_LINE_LENGTH) {
+                    errors.add("address_lines[" + i + "] must not exceed " + MAX_LINE_LENGTH + " characters");
+                }
+            }
+        }
+
+        boolean countryValid = false;
+        if (countryCode == null || countryCode.isEmpty()) {
+            errors.add("country_code is required");
+        } else if (!isCountryCode(countryCode)) {
+            errors.add("country_code must be a two-letter ISO country code");
+        } else {
+            countryValid = true;
+        }
+
+        if (postcode == null || postcode.isBlank()) {
+            errors.add("postcode is required");
+        } else if (countryValid && COUNTRY_GB.equals(countryCode) && !isValidUkPostcode(postcode)) {
+            errors.add("postcode is not a valid UK postcode");
+        }
+
+        return errors;
+    }
+
+    /**
+     * Check a UK postcode without regular expressions
+     *
+     * Accepted outward code shapes: A9, A99, AA9, AA99, A9A, AA9A, followed by an
+     * inward code 9AA. A single space between outward and inward code is optional.
+     * Letters are matched case-insensitively. The special "GIR 0AA" code is accepted.
+     */
+    public static boolean isValidUkPostcode(CharSequence postcode) {
+        int len = postcode.length();
+        // Inward code is always the last three characters
+        if (len < 5 || len > 8) {
+            return false;
+        }
+        int inward = len - 3;
+        if (!isDigit(postcode.charAt(inward))
+                || !isLetter(postcode.charAt(inward + 1))
+                || !isLetter(postcode.charAt(inward + 2))) {
+            return false;
+        }
+
+        int outwardEnd = inward;
+        if (postcode.charAt(outwardEnd - 1) == ' ') {
+            outwardEnd--;
+        }
+        int outwardLen = outwardEnd;
+        if (outwardLen < 2 || outwardLen > 4) {
+            return false;
+        }
+
+        char c0 = postcode.charAt(0);
+        char c1 = postcode.charAt(1);
+        if (!isLetter(c0)) {
+            return false;
+        }
+        if (outwardLen == 3 && (c0 == 'G' || c0 == 'g') && (c1 == 'I' || c1 == 'i')) {
+            char c2 = postcode.charAt(2);
+            if (c2 == 'R' || c2 == 'r') {
+                return postcode.charAt(inward) == '0';
+            }
+        }
+
+        switch (outwardLen) {
+            case 2:
+                // A9
+                return isDigit(c1);
+            case 3: {
+                char c2 = postcode.charAt(2);
+                // A99, AA9, A9A
+                return (isDigit(c1) && isDigit(c2))
+                        || (isLetter(c1) && isDigit(c2))
+                        || (isDigit(c1) && isLetter(c2));
+            }
+            default: {
+                char c2 = postcode.charAt(2);
+                char c3 = postcode.charAt(3);
+                // AA99, AA9A
+                return isLetter(c1) && isDigit(c2) && (isDigit(c3) || isLetter(c3));
+            }
+        }
+    }
+
+    private static boolean isCountryCode(String countryCode) {
+        return countryCode.length() == 2
+                && isUpperLetter(countryCode.charAt(0))
+                && isUpperLetter(countryCode.charAt(1));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isUpperLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,114 @@
+package com.dhanyait.address;
+
+/**
+ * Packed 64-bit encoding of UK postcodes
+ *
+ * A postcode is stored as seven 6-bit slots: four for the outward code
+ * (left-aligned, unused slots are zero) followed by three for the inward code.
+ * Slot values: 0 = empty, 1-10 = '0'-'9', 11-36 = 'A'-'Z'.
+ *
+ * Layout (low 42 bits of the long):
+ *   [outward 4 x 6 bits][inward 3 x 6 bits]
+ *
+ * Properties of the encoding:
+ * - Numeric order of codes equals lexical order of (outward, inward), so
+ *   "SW1A 1AA" &lt; "SW1A 2AA" &lt; "SW1H 0NW"
+ * - All postcodes of one outward code ("SW1A") form a contiguous range,
+ *   see {@link #outwardRangeStart(long)} and {@link #outwardRangeEnd(long)}
+ * - Encoding is case- and space-insensitive: "sw1a1aa" and "SW1A 1AA" share a code
+ */
+public final class PostcodeCodec {
+
+    private static final int BITS_PER_CHAR = 6;
+    private static final int OUTWARD_SLOTS = 4;
+    private static final int INWARD_SLOTS = 3;
+    private static final int INWARD_BITS = INWARD_SLOTS * BITS_PER_CHAR;
+    private static final long INWARD_MASK = (1L << INWARD_BITS) - 1;
+    private static final int SLOT_MASK = (1 << BITS_PER_CHAR) - 1;
+
+    private PostcodeCodec() {
+    }
+
+    /**
+     * Encode a UK postcode
+     *
+     * @throws IllegalArgumentException if the value is not a valid UK postcode
+     */
+    public static long encode(CharSequence postcode) {
+        if (postcode == null || !AddressValidator.isValidUkPostcode(postcode)) {
+            throw new IllegalArgumentException("Invalid UK postcode: " + postcode);
+        }
+        int len = postcode.length();
+        int inwardStart = len - INWARD_SLOTS;
+        int outwardEnd = postcode.charAt(inwardStart - 1) == ' ' ? inwardStart - 1 : inwardStart;
+
+        long code = 0;
+        for (int slot = 0; slot < OUTWARD_SLOTS; slot++) {
+            int value = slot < outwardEnd ? toSlot(postcode.charAt(slot)) : 0;
+            code = (code << BITS_PER_CHAR) | value;
+        }
+        for (int i = inwardStart; i < len; i++) {
+            code = (code << BITS_PER_CHAR) | toSlot(postcode.charAt(i));
+        }
+        return code;
+    }
+
+    /**
+     * Decode a packed postcode to its canonical form, e.g. "SW1A 1AA"
+     */
+    public static String decode(long code) {
+        char[] chars = new char[OUTWARD_SLOTS + 1 + INWARD_SLOTS];
+        int pos = 0;
+        for (int slot = 0; slot < OUTWARD_SLOTS; slot++) {
+            int value = slotAt(code, slot);
+            if (value != 0) {
+                chars[pos++] = fromSlot(value);
+            }
+        }
+        chars[pos++] = ' ';
+        for (int slot = OUTWARD_SLOTS; slot < OUTWARD_SLOTS + INWARD_SLOTS; slot++) {
+            chars[pos++] = fromSlot(slotAt(code, slot));
+        }
+        return new String(chars, 0, pos);
+    }
+
+    /**
+     * @return the packed outward code, comparable across postcodes
+     */
+    public static long outwardCode(long code) {
+        return code >>> INWARD_BITS;
+    }
+
+    /**
+     * @return the smallest code sharing the outward code of the given postcode
+     */
+    public static long outwardRangeStart(long code) {
+        return code & ~INWARD_MASK;
+    }
+
+    /**
+     * @return the largest code sharing the outward code of the given postcode
+     */
+    public static long outwardRangeEnd(long code) {
+        return code | INWARD_MASK;
+    }
+
+    private static int slotAt(long code, int slot) {
+        int shift = (OUTWARD_SLOTS + INWARD_SLOTS - 1 - slot) * BITS_PER_CHAR;
+        return (int) (code >>> shift) & SLOT_MASK;
+    }
+
+    private static int toSlot(char c) {
+        if (c >= '0' && c <= '9') {
+            return 1 + (c - '0');
+        }
+        if (c >= 'a' && c <= 'z') {
+            return 11 + (c - 'a');
+        }
+        return 11 + (c - 'A');
+    }
+
+    private static char fromSlot(int value) {
+        return value <= 10 ? (char) ('0' + value - 1) : (char) ('A' + value - 11);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Citizen address as returned by GET and POST /citizen/{cid}/address
+ *
+ * @param data              address lines (1 to 5, legacy UK format included)
+ * @param postcode          UK postcode, e.g. "SW1A 1AA"
+ * @param addressTypeId     e.g. RESIDENTIAL, GOVERNMENT, HISTORIC
+ * @param addressStatusType e.g. CURRENT
+ * @param timeliness        creation and last update timestamps
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Address(
+        List<String> data,
+        String postcode,
+        String addressTypeId,
+        String addressStatusType,
+        Timeliness timeliness) {
+
+    public Address {
+        data = data == null ? List.of() : List.copyOf(data);
+    }
+
+    /**
+     * @param createdDate    ISO-8601 timestamp, e.g. "2024-01-15T10:30:45.123Z"
+     * @param lastUpdateDate ISO-8601 timestamp, e.g. "2024-02-01T14:20:30.456Z"
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Timeliness(String createdDate, String lastUpdateDate) {
+    }
+}
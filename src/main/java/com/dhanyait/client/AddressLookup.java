@@ -0,0 +1,15 @@
+package com.dhanyait.client;
+
+/**
+ * Outcome of one CID in a multi-CID lookup
+ *
+ * @param cid      citizen ID that was requested
+ * @param response decoded response, null if the call failed
+ * @param failure  cause of the failure (e.g. TimeoutException, IOException), null on success
+ */
+public record AddressLookup(String cid, AddressResponse response, Throwable failure) {
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+}
@@ -0,0 +1,197 @@
+package com.dhanyait.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side auto-batching of single-CID address lookups
+ *
+ * Callers ask for one CID at a time; lookups arriving within {@code window} of
+ * the first pending one (or until {@code maxBatchSize} distinct CIDs are pending)
+ * are handed to a {@link BatchLoader} as one batch, and each caller's future is
+ * completed individually from the batch result. Concurrent lookups of the same
+ * CID inside one window share a single slot in the batch.
+ *
+ * The default loader is {@link PersonAddressClient#getAddresses}; a provider batch
+ * endpoint can be plugged in through {@link #AddressLookupBatcher(BatchLoader, Duration, int)}.
+ * Batch sizes and per-lookup latency (enqueue to completion, in microseconds)
+ * are recorded in histograms.
+ */
+public final class AddressLookupBatcher implements AutoCloseable {
+
+    /**
+     * Resolves a batch of distinct CIDs; one lookup per CID is expected back
+     */
+    @FunctionalInterface
+    public interface BatchLoader {
+        CompletableFuture<List<AddressLookup>> load(List<String> cids);
+    }
+
+    private final BatchLoader loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Histogram batchSizes = new Histogram();
+    private final Histogram latencyMicros = new Histogram();
+
+    private final Object lock = new Object();
+    private Map<String, Pending> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    public AddressLookupBatcher(PersonAddressClient client, Duration window, int maxBatchSize) {
+        this(client::getAddresses, window, maxBatchSize);
+    }
+
+    public AddressLookupBatcher(BatchLoader loader, Duration window, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.loader = Objects.requireNonNull(loader, "loader");
+        this.windowNanos = Objects.requireNonNull(window, "window").toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-lookup-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue a lookup for the next batch
+     */
+    public CompletableFuture<AddressResponse> getAddress(String cid) {
+        Objects.requireNonNull(cid, "cid");
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<AddressResponse> future = new CompletableFuture<>();
+        Map<String, Pending> ready = null;
+
+        synchronized (lock) {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Batcher is closed"));
+            }
+            Pending slot = pending.get(cid);
+            if (slot == null) {
+                slot = new Pending();
+                pending.put(cid, slot);
+            }
+            slot.waiters.put(future, enqueuedAt);
+
+            if (pending.size() >= maxBatchSize) {
+                ready = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future;
+    }
+
+    /**
+     * Dispatch whatever is pending now, without waiting for the window
+     */
+    public void flush() {
+        Map<String, Pending> ready;
+        synchronized (lock) {
+            ready = takePending();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    public Histogram batchSizeHistogram() {
+        return batchSizes;
+    }
+
+    public Histogram latencyHistogram() {
+        return latencyMicros;
+    }
+
+    /**
+     * Flush pending lookups and stop the window timer
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+        scheduler.shutdown();
+    }
+
+    private Map<String, Pending> takePending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (pending.isEmpty()) {
+            return null;
+        }
+        Map<String, Pending> ready = pending;
+        pending = new LinkedHashMap<>();
+        return ready;
+    }
+
+    private void dispatch(Map<String, Pending> batch) {
+        batchSizes.record(batch.size());
+        CompletableFuture<List<AddressLookup>> result;
+        try {
+            result = loader.load(List.copyOf(batch.keySet()));
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((lookups, failure) -> {
+            if (failure != null) {
+                batch.values().forEach(slot -> slot.fail(failure));
+                return;
+            }
+            for (AddressLookup lookup : lookups) {
+                Pending slot = batch.remove(lookup.cid());
+                if (slot != null) {
+                    slot.complete(lookup);
+                }
+            }
+            batch.forEach((cid, slot) ->
+                    slot.fail(new IllegalStateException("Batch returned no result for " + cid)));
+        });
+    }
+
+    /**
+     * Callers waiting on one CID, with their enqueue timestamps
+     */
+    private final class Pending {
+        private final Map<CompletableFuture<AddressResponse>, Long> waiters = new LinkedHashMap<>(2);
+
+        private void complete(AddressLookup lookup) {
+            if (lookup.isFailed()) {
+                fail(lookup.failure());
+                return;
+            }
+            long now = System.nanoTime();
+            waiters.forEach((future, enqueuedAt) -> {
+                latencyMicros.record((now - enqueuedAt) / 1_000);
+                future.complete(lookup.response());
+            });
+        }
+
+        private void fail(Throwable failure) {
+            long now = System.nanoTime();
+            waiters.forEach((future, enqueuedAt) -> {
+                latencyMicros.record((now - enqueuedAt) / 1_000);
+                future.completeExceptionally(failure);
+            });
+        }
+    }
+}
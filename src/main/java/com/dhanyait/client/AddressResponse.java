@@ -0,0 +1,18 @@
+package com.dhanyait.client;
+
+/**
+ * Typed result of a Citizen Address Service call
+ *
+ * At most one of {@code address} and {@code error} is set, depending on
+ * whether the status code is 2xx.
+ *
+ * @param statusCode HTTP status code
+ * @param address    decoded address for 2xx responses, otherwise null
+ * @param error      decoded error body for non-2xx responses, otherwise null
+ */
+public record AddressResponse(int statusCode, Address address, ApiError error) {
+
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
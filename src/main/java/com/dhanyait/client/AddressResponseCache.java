@@ -0,0 +1,252 @@
+package com.dhanyait.client;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded client-side cache of GET /citizen/{cid}/address responses
+ *
+ * Entries are keyed by CID and evicted least-recently-used once {@code maxEntries}
+ * is reached. Freshness follows the response headers:
+ * - Cache-Control: max-age=N serves the entry without a request for N seconds
+ * - Cache-Control: no-cache (or no max-age) revalidates every time with If-None-Match
+ * - Cache-Control: no-store is never cached
+ * A 304 Not Modified answer to a revalidation counts as a hit and refreshes the entry.
+ *
+ * Concurrent lookups of the same CID share one in-flight request.
+ *
+ * {@link #invalidate(String)} bumps a per-key generation that every store checks,
+ * so a fetch that was already in flight when the CID was invalidated (e.g. a GET
+ * racing a successful POST) returns its body to its callers but never re-caches it.
+ * Generations are striped: an invalidation may also discard an unrelated in-flight
+ * store that hashes to the same stripe, which only costs a later miss.
+ */
+final class AddressResponseCache {
+
+    /**
+     * Performs the actual GET, sending If-None-Match when an ETag is given
+     */
+    @FunctionalInterface
+    interface Fetcher {
+        Fetched fetch(String ifNoneMatch) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Raw outcome of a fetch; {@code response} is null for 304 Not Modified
+     */
+    record Fetched(int statusCode, AddressResponse response, String etag, String cacheControl) {
+    }
+
+    private static final int NOT_MODIFIED = 304;
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Map<String, Entry> entries;
+    /**
+     * Invalidation count per key stripe, guarded by {@code entries}
+     */
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final ConcurrentHashMap<String, CompletableFuture<AddressResponse>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    AddressResponseCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    AddressResponse get(String cid, Fetcher fetcher) throws IOException, InterruptedException {
+        Entry cached = lookup(cid);
+        if (cached != null && cached.isFresh(System.nanoTime())) {
+            hits.increment();
+            return cached.response;
+        }
+
+        CompletableFuture<AddressResponse> mine = new CompletableFuture<>();
+        CompletableFuture<AddressResponse> existing = inFlight.putIfAbsent(cid, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            AddressResponse result = fetchAndStore(cid, cached, generation(cid), fetcher);
+            mine.complete(result);
+            return result;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cid, mine);
+        }
+    }
+
+    CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), revalidations.sum(), notModified.sum(), coalesced.sum(), size);
+    }
+
+    /**
+     * Drop the cached entry and keep any fetch already in flight from storing its result
+     *
+     * Lookups that start afterwards send a fresh request instead of joining the old one.
+     */
+    void invalidate(String cid) {
+        synchronized (entries) {
+            generations[stripe(cid)]++;
+            entries.remove(cid);
+        }
+        inFlight.remove(cid);
+    }
+
+    private AddressResponse fetchAndStore(String cid, Entry cached, long generation, Fetcher fetcher)
+            throws IOException, InterruptedException {
+        String etag = cached != null ? cached.etag : null;
+        if (etag != null) {
+            revalidations.increment();
+        }
+        Fetched fetched = fetcher.fetch(etag);
+
+        if (fetched.statusCode() == NOT_MODIFIED && cached != null) {
+            notModified.increment();
+            hits.increment();
+            String cacheControl = fetched.cacheControl() != null ? fetched.cacheControl() : cached.cacheControl;
+            store(cid, new Entry(cached.response, etag, cacheControl, System.nanoTime()), generation);
+            return cached.response;
+        }
+
+        misses.increment();
+        AddressResponse response = fetched.response();
+        if (fetched.statusCode() == 200 && isCacheable(fetched)) {
+            store(cid, new Entry(response, fetched.etag(), fetched.cacheControl(), System.nanoTime()), generation);
+        } else {
+            evict(cid);
+        }
+        return response;
+    }
+
+    private Entry lookup(String cid) {
+        synchronized (entries) {
+            return entries.get(cid);
+        }
+    }
+
+    private long generation(String cid) {
+        synchronized (entries) {
+            return generations[stripe(cid)];
+        }
+    }
+
+    /**
+     * Store the entry unless the CID was invalidated since {@code generation} was read
+     */
+    private void store(String cid, Entry entry, long generation) {
+        synchronized (entries) {
+            if (generations[stripe(cid)] == generation) {
+                entries.put(cid, entry);
+            }
+        }
+    }
+
+    private void evict(String cid) {
+        synchronized (entries) {
+            entries.remove(cid);
+        }
+    }
+
+    private static int stripe(String cid) {
+        int h = cid.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static boolean isCacheable(Fetched fetched) {
+        if (hasDirective(fetched.cacheControl(), "no-store")) {
+            return false;
+        }
+        return fetched.etag() != null || maxAgeSeconds(fetched.cacheControl()) > 0;
+    }
+
+    private static AddressResponse await(CompletableFuture<AddressResponse> future)
+            throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof InterruptedException ie) {
+                throw ie;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String part : cacheControl.split(",")) {
+            if (part.trim().toLowerCase(Locale.ROOT).equals(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long maxAgeSeconds(String cacheControl) {
+        if (cacheControl == null || hasDirective(cacheControl, "no-cache")) {
+            return 0;
+        }
+        for (String part : cacheControl.split(",")) {
+            String directive = part.trim().toLowerCase(Locale.ROOT);
+            if (directive.startsWith("max-age=")) {
+                try {
+                    return Math.max(0, Long.parseLong(directive.substring("max-age=".length()).trim()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static final class Entry {
+        private final AddressResponse response;
+        private final String etag;
+        private final String cacheControl;
+        private final long freshUntilNanos;
+
+        private Entry(AddressResponse response, String etag, String cacheControl, long storedAtNanos) {
+            this.response = response;
+            this.etag = etag;
+            this.cacheControl = cacheControl;
+            this.freshUntilNanos = storedAtNanos + maxAgeSeconds(cacheControl) * 1_000_000_000L;
+        }
+
+        private boolean isFresh(long nowNanos) {
+            return nowNanos - freshUntilNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming decoder for Citizen Address Service response bodies
+ *
+ * Reads {@link Address} and {@link ApiError} directly from the response byte
+ * stream with Jackson's {@link JsonParser}: the body is never materialised as a
+ * String and no data-binding tree is built. Unknown fields are skipped.
+ */
+final class AddressResponseDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private AddressResponseDecoder() {
+    }
+
+    /**
+     * Decode a response body of unknown content type, see {@link #decode(int, String, InputStream)}
+     */
+    static AddressResponse decode(int statusCode, InputStream body) throws IOException {
+        return decode(statusCode, null, body);
+    }
+
+    /**
+     * Decode a response body into an {@link AddressResponse}
+     *
+     * 2xx bodies are read as {@link Address}, everything else as {@link ApiError}.
+     * An empty body yields a response with neither set, and so does a non-2xx body
+     * that is not JSON, such as a gateway's HTML error page: it is skipped when the
+     * Content-Type says so, or dropped if it fails to parse. The stream is closed.
+     *
+     * @param contentType the response Content-Type, or null if unknown
+     */
+    static AddressResponse decode(int statusCode, String contentType, InputStream body) throws IOException {
+        boolean success = statusCode >= 200 && statusCode < 300;
+        if (!success && contentType != null && !isJson(contentType)) {
+            body.close();
+            return new AddressResponse(statusCode, null, null);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return new AddressResponse(statusCode, null, null);
+            }
+            if (first != JsonToken.START_OBJECT) {
+                if (!success) {
+                    return new AddressResponse(statusCode, null, null);
+                }
+                throw new IOException("Expected JSON object but found " + first);
+            }
+            if (success) {
+                return new AddressResponse(statusCode, readAddress(parser), null);
+            }
+            return new AddressResponse(statusCode, null, readError(parser));
+        } catch (JsonProcessingException e) {
+            if (success) {
+                throw e;
+            }
+            return new AddressResponse(statusCode, null, null);
+        }
+    }
+
+    /**
+     * Read an address object; the parser must be positioned on START_OBJECT
+     */
+    static Address readAddress(JsonParser parser) throws IOException {
+        List<String> data = null;
+        String postcode = null;
+        String addressTypeId = null;
+        String addressStatusType = null;
+        Address.Timeliness timeliness = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "data" -> data = readStringArray(parser, value);
+                case "postcode" -> postcode = readString(parser, value);
+                case "addressTypeId" -> addressTypeId = readString(parser, value);
+                case "addressStatusType" -> addressStatusType = readString(parser, value);
+                case "timeliness" -> timeliness = readTimeliness(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Address(data, postcode, addressTypeId, addressStatusType, timeliness);
+    }
+
+    /**
+     * Read an error object; the parser must be positioned on START_OBJECT
+     */
+    static ApiError readError(JsonParser parser) throws IOException {
+        String error = null;
+        String message = null;
+        String timestamp = null;
+        List<String> validationErrors = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "error" -> error = readString(parser, value);
+                case "message" -> message = readString(parser, value);
+                case "timestamp" -> timestamp = readString(parser, value);
+                case "validationErrors" -> validationErrors = readStringArray(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ApiError(error, message, timestamp, validationErrors);
+    }
+
+    /**
+     * @return true for application/json and structured {@code +json} media types, ignoring parameters
+     */
+    static boolean isJson(String contentType) {
+        int end = contentType.indexOf(';');
+        String mediaType = (end < 0 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+        return mediaType.equals("application/json") || mediaType.endsWith("+json");
+    }
+
+    private static Address.Timeliness readTimeliness(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String createdDate = null;
+        String lastUpdateDate = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "createdDate" -> createdDate = readString(parser, value);
+                case "lastUpdateDate" -> lastUpdateDate = readString(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        return new Address.Timeliness(createdDate, lastUpdateDate);
+    }
+
+    private static List<String> readStringArray(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> values = new ArrayList<>(5);
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+            String value = readString(parser, element);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static String readString(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+}
@@ -0,0 +1,25 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Error body returned by the Citizen Address Service for 4xx/5xx responses
+ *
+ * @param error            error code, e.g. NOT_FOUND, BAD_REQUEST, INTERNAL_SERVER_ERROR
+ * @param message          human readable description
+ * @param timestamp        ISO-8601 timestamp of the failure
+ * @param validationErrors field errors, only present for 400 Bad Request
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApiError(
+        String error,
+        String message,
+        String timestamp,
+        List<String> validationErrors) {
+
+    public ApiError {
+        validationErrors = validationErrors == null ? List.of() : List.copyOf(validationErrors);
+    }
+}
@@ -0,0 +1,21 @@
+package com.dhanyait.client;
+
+/**
+ * Point-in-time counters of the PersonAddressClient response cache
+ *
+ * @param hits          lookups answered from the cache, fresh or revalidated with 304
+ * @param misses        lookups that needed a full response
+ * @param revalidations conditional requests sent with If-None-Match
+ * @param notModified   revalidations answered with 304 Not Modified
+ * @param coalesced     lookups that joined another caller's in-flight request
+ * @param size          current number of cached entries
+ */
+public record CacheStats(long hits, long misses, long revalidations, long notModified, long coalesced, int size) {
+
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,188 @@
+package com.dhanyait.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free circuit breaker for calls to the address provider
+ *
+ * Outcomes of the last {@code windowSize} calls are kept in a ring buffer with
+ * running totals, so recording a call is a couple of atomic updates. Once at least
+ * {@code minimumCalls} are in the window and the failure rate reaches the threshold
+ * the breaker opens and rejects calls for {@code openDuration}. After that, a single
+ * probe is let through (half-open): success closes the breaker with a clean window,
+ * failure opens it again.
+ *
+ * State and the time it was entered share one atomic word, so every transition is a
+ * single compare-and-set and at most one caller wins it.
+ *
+ * Each admitted call gets a {@link Permit} carrying the word it was admitted under and
+ * reports its outcome through it. Only the holder of the half-open probe can close or
+ * reopen the breaker, and outcomes of calls admitted before the breaker last moved are
+ * ignored, so a late completion cannot decide a probe it was not part of.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+    private static final State[] STATES = State.values();
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final long origin = System.nanoTime();
+
+    /** (nanos since origin << 2) | state ordinal */
+    private final AtomicLong stateWord = new AtomicLong(word(State.CLOSED, 0));
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    /** Shared by all calls admitted in the current closed period, so admission does not allocate */
+    private volatile Permit closedPermit = new Permit(stateWord.get());
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be at least 1");
+        }
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.outcomes = new AtomicIntegerArray(windowSize);
+    }
+
+    /**
+     * Outcome reporter for one admitted call; report exactly once
+     */
+    public final class Permit {
+        private final long granted;
+
+        private Permit(long granted) {
+            this.granted = granted;
+        }
+
+        public void onSuccess() {
+            if (stateOf(granted) == State.HALF_OPEN) {
+                if (stateWord.compareAndSet(granted, word(State.CLOSED, now()))) {
+                    clearWindow();
+                }
+                return;
+            }
+            if (stateWord.get() == granted) {
+                record(SUCCESS);
+            }
+        }
+
+        public void onFailure() {
+            if (stateOf(granted) == State.HALF_OPEN) {
+                stateWord.compareAndSet(granted, word(State.OPEN, now()));
+                return;
+            }
+            if (stateWord.get() != granted) {
+                return;
+            }
+            record(FAILURE);
+            if (isOverThreshold()) {
+                stateWord.compareAndSet(granted, word(State.OPEN, now()));
+            }
+        }
+    }
+
+    /**
+     * @return a permit through which the caller must report the outcome, or null if the call is rejected
+     */
+    public Permit tryAcquire() {
+        long current = stateWord.get();
+        State state = stateOf(current);
+        if (state == State.CLOSED) {
+            Permit permit = closedPermit;
+            if (permit.granted != current) {
+                permit = new Permit(current);
+                closedPermit = permit;
+            }
+            return permit;
+        }
+        // OPEN waiting out its cool-down, or HALF_OPEN whose probe never reported back
+        long now = now();
+        if (now - sinceOf(current) < openNanos) {
+            return null;
+        }
+        long probe = word(State.HALF_OPEN, now);
+        return stateWord.compareAndSet(current, probe) ? new Permit(probe) : null;
+    }
+
+    public State state() {
+        return stateOf(stateWord.get());
+    }
+
+    /**
+     * @return failure rate over the current window, 0 when it is empty
+     */
+    public double failureRate() {
+        int total = calls.get();
+        return total == 0 ? 0.0 : (double) failures.get() / total;
+    }
+
+    private void record(int outcome) {
+        int slot = (int) (cursor.getAndIncrement() % windowSize);
+        int previous = outcomes.getAndSet(slot, outcome);
+        if (previous == EMPTY) {
+            calls.incrementAndGet();
+        }
+        int delta = (outcome == FAILURE ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+        if (delta != 0) {
+            failures.addAndGet(delta);
+        }
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < windowSize; i++) {
+            int previous = outcomes.getAndSet(i, EMPTY);
+            if (previous != EMPTY) {
+                calls.decrementAndGet();
+                if (previous == FAILURE) {
+                    failures.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private boolean isOverThreshold() {
+        int total = calls.get();
+        return total >= minimumCalls && failures.get() >= failureRateThreshold * total;
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    private static long word(State state, long sinceNanos) {
+        return (sinceNanos << 2) | state.ordinal();
+    }
+
+    private static State stateOf(long word) {
+        return STATES[(int) (word & 3)];
+    }
+
+    private static long sinceOf(long word) {
+        return word >>> 2;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreaker[state=%s, failureRate=%.2f, calls=%d]", state(), failureRate(), calls.get());
+    }
+}
@@ -0,0 +1,15 @@
+package com.dhanyait.client;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of calling the address provider while the circuit breaker is open
+ */
+public class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Request body for POST /citizen/{cid}/address
+ *
+ * Fields left null are omitted from the JSON payload.
+ *
+ * @param addressLines address lines (1 to 5)
+ * @param postcode     UK postcode, e.g. "NW1 6XE"
+ * @param countryCode  ISO 3166-1 alpha-2 country code, e.g. "GB"
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CreateAddressRequest(
+        @JsonProperty("address_lines") List<String> addressLines,
+        @JsonProperty("postcode") String postcode,
+        @JsonProperty("country_code") String countryCode) {
+}
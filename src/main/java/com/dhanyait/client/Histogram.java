@@ -0,0 +1,103 @@
+package com.dhanyait.client;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram with power-of-two buckets
+ *
+ * Bucket {@code i} counts values in [2^(i-1), 2^i), bucket 0 counts zero and
+ * negative values. Recording is wait-free and safe from any thread; reads are
+ * weakly consistent snapshots, which is good enough for client metrics.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public void record(long value) {
+        int bucket = value <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(value);
+        buckets.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    public long max() {
+        return count.sum() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Approximate percentile: the upper bound of the bucket containing it
+     *
+     * @param percentile value in (0, 100]
+     */
+    public long percentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i == 0 ? 0 : Math.min(max(), (1L << i) - 1);
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Percentile estimated by linear interpolation within the bucket containing it
+     *
+     * Assumes values are spread evenly across the bucket (capped at the recorded
+     * maximum), so unlike {@link #percentile(double)} the estimate is not pinned to
+     * the bucket's upper bound, which can be up to twice the true value.
+     *
+     * @param percentile value in (0, 100]
+     */
+    public long interpolatedPercentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) {
+            return 0;
+        }
+        double rank = Math.max(1.0, n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long inBucket = buckets.get(i);
+            if (inBucket > 0 && seen + inBucket >= rank) {
+                if (i == 0) {
+                    return 0;
+                }
+                // The top occupied bucket only reaches the recorded maximum
+                long lower = 1L << (i - 1);
+                long upper = Math.min(max(), i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                double fraction = (rank - seen) / inBucket;
+                return Math.max(lower, (long) (lower + (upper - lower) * fraction));
+            }
+            seen += inBucket;
+        }
+        return max();
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram[count=" + count() + ", mean=" + mean() + ", p50=" + percentile(50)
+                + ", p99=" + percentile(99) + ", max=" + max() + "]";
+    }
+}
@@ -0,0 +1,568 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Client for the Citizen Address Service
+ *
+ * Endpoints:
+ * - GET /citizen/{cid}/address
+ * - POST /citizen/{cid}/address
+ *
+ * All instances share one HTTP/1.1 {@link HttpClient} (and its connection
+ * pool) unless a client is supplied explicitly, so creating a PersonAddressClient
+ * per base URL or per test is cheap. The Subsystem-Id header is added to every
+ * request and a Correlation-Id is generated per call unless one is passed in.
+ * Response bodies are decoded straight from the byte stream, see {@code AddressResponseDecoder}.
+ * CIDs must be 1-64 letters, digits, underscores or hyphens; anything else is
+ * rejected with an {@link IllegalArgumentException} before a request is built.
+ *
+ * Multi-CID lookups are fanned out with {@link HttpClient#sendAsync} under a
+ * concurrency cap, each call bounded by its own deadline, see {@link #getAddresses(Collection)}.
+ *
+ * When a cache size is configured, blocking GETs go through a bounded response
+ * cache that honours ETag and Cache-Control, see {@code AddressResponseCache}.
+ * A successful POST invalidates the CID. The asynchronous paths
+ * ({@link #getAddressAsync(String)}, {@link #getAddresses(Collection)} and
+ * {@link AddressLookupBatcher}) always go to the provider and neither read nor fill the cache.
+ *
+ * When a retry policy or hedging is configured, requests go through
+ * {@code RequestExecutor}: idempotent calls are retried on retriable 5xx and
+ * connection failures within a total deadline budget, and GETs slower than the
+ * observed p95 are hedged. A POST is only retried when it carries an idempotency key, and never hedged.
+ *
+ * An optional {@link CircuitBreaker} guards every attempt: 5xx responses, timeouts
+ * and connection failures count against it, and while it is open calls fail fast
+ * with {@link CircuitOpenException} instead of waiting on a degraded provider.
+ */
+public class PersonAddressClient {
+
+    public static final String SUBSYSTEM_ID_HEADER = "Subsystem-Id";
+    public static final String CORRELATION_ID_HEADER = "Correlation-Id";
+    public static final String DEFAULT_SUBSYSTEM_ID = "CONSUMER_SYSTEM_001";
+
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_CONCURRENCY = 16;
+    /**
+     * A CID is placed into the request path as one segment, so it is limited to unreserved characters
+     */
+    private static final Pattern CID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String subsystemId;
+    private final Supplier<String> correlationIdSupplier;
+    private final Duration requestTimeout;
+    private final Duration callDeadline;
+    private final int maxConcurrency;
+    private final AddressResponseCache cache;
+    private final RequestExecutor executor;
+    private final CircuitBreaker breaker;
+
+    private PersonAddressClient(Builder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient : SharedHttpClient.INSTANCE;
+        this.baseUrl = stripTrailingSlash(builder.baseUrl);
+        this.subsystemId = builder.subsystemId;
+        this.correlationIdSupplier = builder.correlationIdSupplier;
+        this.requestTimeout = builder.requestTimeout;
+        this.callDeadline = builder.callDeadline != null ? builder.callDeadline : builder.requestTimeout;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.cache = builder.cacheMaxEntries > 0 ? new AddressResponseCache(builder.cacheMaxEntries) : null;
+        this.executor = builder.maxAttempts > 1 || builder.hedging
+                ? new RequestExecutor(builder.maxAttempts,
+                        builder.retryBudget != null ? builder.retryBudget : callDeadline, builder.hedging)
+                : null;
+        this.breaker = builder.breaker;
+    }
+
+    /**
+     * Create a client with default settings against the given base URL
+     */
+    public static PersonAddressClient create(String baseUrl) {
+        return builder(baseUrl).build();
+    }
+
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    /**
+     * GET /citizen/{cid}/address with a generated Correlation-Id
+     */
+    public AddressResponse getAddress(String cid) throws IOException, InterruptedException {
+        return getAddress(cid, correlationIdSupplier.get());
+    }
+
+    /**
+     * GET /citizen/{cid}/address
+     */
+    public AddressResponse getAddress(String cid, String correlationId) throws IOException, InterruptedException {
+        if (cache != null) {
+            return cache.get(cid, etag -> fetchConditional(cid, correlationId, etag));
+        }
+        HttpRequest request = requestBuilder(cid, correlationId)
+                .GET()
+                .build();
+        return send(request, true, true);
+    }
+
+    /**
+     * POST /citizen/{cid}/address with a generated Correlation-Id
+     */
+    public AddressResponse createAddress(String cid, CreateAddressRequest body) throws IOException, InterruptedException {
+        return createAddress(cid, body, correlationIdSupplier.get());
+    }
+
+    /**
+     * POST /citizen/{cid}/address
+     */
+    public AddressResponse createAddress(String cid, CreateAddressRequest body, String correlationId)
+            throws IOException, InterruptedException {
+        return createAddress(cid, body, correlationId, null);
+    }
+
+    /**
+     * POST /citizen/{cid}/address with an Idempotency-Key header
+     *
+     * Only a POST sent with an idempotency key is eligible for retries; without
+     * one ({@code idempotencyKey} null) it is sent exactly once.
+     */
+    public AddressResponse createAddress(String cid, CreateAddressRequest body, String correlationId,
+                                         String idempotencyKey) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = requestBuilder(cid, correlationId)
+                .header("Content-Type", CONTENT_TYPE_JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)));
+        if (idempotencyKey != null) {
+            builder.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        // A keyed POST may be retried but is never hedged: that would send a second write
+        AddressResponse response = send(builder.build(), idempotencyKey != null, false);
+        if (cache != null && response.isSuccess()) {
+            cache.invalidate(cid);
+        }
+        return response;
+    }
+
+    /**
+     * Asynchronous GET /citizen/{cid}/address with a generated Correlation-Id
+     *
+     * The returned future fails with {@link java.util.concurrent.TimeoutException}
+     * if no response is decoded within the call deadline (or the retry budget,
+     * when a retry policy is configured).
+     */
+    public CompletableFuture<AddressResponse> getAddressAsync(String cid) {
+        return getAddressAsync(cid, correlationIdSupplier.get());
+    }
+
+    /**
+     * Asynchronous GET /citizen/{cid}/address
+     */
+    public CompletableFuture<AddressResponse> getAddressAsync(String cid, String correlationId) {
+        HttpRequest request = requestBuilder(cid, correlationId)
+                .timeout(callDeadline)
+                .GET()
+                .build();
+        CompletableFuture<AddressResponse> call = dispatch(request, HttpResponse.BodyHandlers.ofByteArray(), true, true)
+                .thenApply(PersonAddressClient::decode);
+        // With a retry policy the budget already bounds the call
+        return executor != null ? call : call.orTimeout(callDeadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fetch the addresses of many citizens concurrently
+     *
+     * At most {@code maxConcurrency} requests are in flight at any time; the next
+     * CID is dispatched as soon as one completes. Each call is bounded by the call
+     * deadline and failures are reported per CID rather than failing the batch.
+     *
+     * @return a future of one lookup per CID, in the order of {@code cids}
+     */
+    public CompletableFuture<List<AddressLookup>> getAddresses(Collection<String> cids) {
+        return getAddresses(cids, lookup -> { });
+    }
+
+    /**
+     * Fetch the addresses of many citizens concurrently, reporting each result as it arrives
+     *
+     * {@code onResult} is called once per CID, in completion order, on the thread that
+     * completed the call; an exception thrown from it fails the returned future.
+     *
+     * @return a future of one lookup per CID, in the order of {@code cids}
+     */
+    public CompletableFuture<List<AddressLookup>> getAddresses(Collection<String> cids,
+                                                              Consumer<AddressLookup> onResult) {
+        Objects.requireNonNull(onResult, "onResult");
+        return new FanOut(List.copyOf(cids), onResult).start();
+    }
+
+    /**
+     * @return response cache counters, all zero when caching is disabled
+     */
+    public CacheStats cacheStats() {
+        return cache != null ? cache.stats() : CacheStats.EMPTY;
+    }
+
+    /**
+     * @return retry and hedging counters, all zero when neither is configured
+     */
+    public ResilienceStats resilienceStats() {
+        return executor != null ? executor.stats() : ResilienceStats.EMPTY;
+    }
+
+    /**
+     * @return the configured circuit breaker, or null when none is configured
+     */
+    public CircuitBreaker circuitBreaker() {
+        return breaker;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    private HttpRequest.Builder requestBuilder(String cid, String correlationId) {
+        Objects.requireNonNull(cid, "cid");
+        if (!CID_PATTERN.matcher(cid).matches()) {
+            throw new IllegalArgumentException("Invalid CID, expected 1-64 of [A-Za-z0-9_-]: " + cid);
+        }
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/citizen/" + cid + "/address"))
+                .timeout(requestTimeout)
+                .header(SUBSYSTEM_ID_HEADER, subsystemId)
+                .header(CORRELATION_ID_HEADER, correlationId);
+    }
+
+    private AddressResponse send(HttpRequest request, boolean retriable, boolean hedgeable)
+            throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = exchange(request, retriable, hedgeable);
+        return AddressResponseDecoder.decode(response.statusCode(), contentType(response), response.body());
+    }
+
+    private HttpResponse<InputStream> exchange(HttpRequest request, boolean retriable, boolean hedgeable)
+            throws IOException, InterruptedException {
+        if (executor == null && breaker == null) {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        }
+        CompletableFuture<HttpResponse<InputStream>> call =
+                dispatch(request, HttpResponse.BodyHandlers.ofInputStream(), retriable, hedgeable);
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new HttpTimeoutException("retry budget exhausted for " + request.uri());
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> dispatch(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+                                                            boolean retriable, boolean hedgeable) {
+        Supplier<CompletableFuture<HttpResponse<T>>> attempt = breaker != null
+                ? () -> guarded(request, handler)
+                : () -> httpClient.sendAsync(request, handler);
+        return executor != null ? executor.execute(attempt, retriable, hedgeable) : attempt.get();
+    }
+
+    /**
+     * One attempt through the circuit breaker, reporting its outcome back to it
+     */
+    private <T> CompletableFuture<HttpResponse<T>> guarded(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == null) {
+            return CompletableFuture.failedFuture(new CircuitOpenException("circuit open for " + baseUrl));
+        }
+        return httpClient.sendAsync(request, handler).whenComplete((response, failure) -> {
+            if (response != null) {
+                if (response.statusCode() >= 500) {
+                    permit.onFailure();
+                } else {
+                    permit.onSuccess();
+                }
+            } else if (unwrap(failure) instanceof IOException) {
+                permit.onFailure();
+            }
+            // Anything else (e.g. cancellation) says nothing about the provider
+        });
+    }
+
+    private AddressResponseCache.Fetched fetchConditional(String cid, String correlationId, String etag)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = requestBuilder(cid, correlationId).GET();
+        if (etag != null) {
+            builder.header(IF_NONE_MATCH_HEADER, etag);
+        }
+        HttpResponse<InputStream> response = exchange(builder.build(), true, true);
+        String responseEtag = response.headers().firstValue("ETag").orElse(null);
+        String cacheControl = response.headers().firstValue("Cache-Control").orElse(null);
+        if (response.statusCode() == 304) {
+            response.body().close();
+            return new AddressResponseCache.Fetched(304, null, responseEtag, cacheControl);
+        }
+        AddressResponse decoded =
+                AddressResponseDecoder.decode(response.statusCode(), contentType(response), response.body());
+        return new AddressResponseCache.Fetched(response.statusCode(), decoded, responseEtag, cacheControl);
+    }
+
+    private static AddressResponse decode(HttpResponse<byte[]> response) {
+        try {
+            return AddressResponseDecoder.decode(response.statusCode(), contentType(response),
+                    new ByteArrayInputStream(response.body()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentType(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type").orElse(null);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        Objects.requireNonNull(url, "baseUrl");
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Lazily created HTTP client shared by all PersonAddressClient instances
+     */
+    private static final class SharedHttpClient {
+        private static final HttpClient INSTANCE = HttpClient.newBuilder()
+                // The builder defaults to HTTP/2, which sends an h2c upgrade to plain-HTTP mock servers
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Bounded fan-out of one batch
+     *
+     * Calls may complete synchronously (e.g. while the circuit breaker is open), so
+     * completions never dispatch recursively: they return their permit and hand off
+     * to a single drain loop, whichever thread currently owns it. Each result is
+     * stored in the slot of its CID, so the batch completes in input order.
+     */
+    private final class FanOut {
+        private final List<String> cids;
+        private final Consumer<AddressLookup> onResult;
+        private final AtomicReferenceArray<AddressLookup> results;
+        private final AtomicInteger remaining;
+        private final AtomicInteger permits = new AtomicInteger(maxConcurrency);
+        private final AtomicInteger wip = new AtomicInteger();
+        private final CompletableFuture<List<AddressLookup>> result = new CompletableFuture<>();
+        // Only read and advanced by the drain owner; wip hands it over between owners
+        private int next;
+
+        private FanOut(List<String> cids, Consumer<AddressLookup> onResult) {
+            this.cids = cids;
+            this.onResult = onResult;
+            this.results = new AtomicReferenceArray<>(cids.size());
+            this.remaining = new AtomicInteger(cids.size());
+        }
+
+        private CompletableFuture<List<AddressLookup>> start() {
+            if (remaining.get() == 0) {
+                result.complete(List.of());
+                return result;
+            }
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                // Only the drain owner takes permits, so the check cannot race another taker
+                while (permits.get() > 0 && next < cids.size() && !result.isDone()) {
+                    permits.decrementAndGet();
+                    dispatch(next++);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void dispatch(int index) {
+            String cid = cids.get(index);
+            CompletableFuture<AddressResponse> call;
+            try {
+                call = getAddressAsync(cid);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            call.whenComplete((response, failure) -> {
+                try {
+                    AddressLookup lookup = new AddressLookup(cid, response, unwrap(failure));
+                    results.set(index, lookup);
+                    onResult.accept(lookup);
+                    if (remaining.decrementAndGet() == 0) {
+                        List<AddressLookup> lookups = new ArrayList<>(results.length());
+                        for (int i = 0; i < results.length(); i++) {
+                            lookups.add(results.get(i));
+                        }
+                        result.complete(lookups);
+                    } else {
+                        permits.incrementAndGet();
+                        drain();
+                    }
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        }
+    }
+
+    public static final class Builder {
+        private final String baseUrl;
+        private HttpClient httpClient;
+        private String subsystemId = DEFAULT_SUBSYSTEM_ID;
+        private Supplier<String> correlationIdSupplier = () -> "corr-" + UUID.randomUUID();
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private Duration callDeadline;
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+        private int cacheMaxEntries;
+        private int maxAttempts = 1;
+        private Duration retryBudget;
+        private boolean hedging;
+        private CircuitBreaker breaker;
+
+        private Builder(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        /**
+         * Use a dedicated HTTP client instead of the shared one
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder subsystemId(String subsystemId) {
+            this.subsystemId = Objects.requireNonNull(subsystemId, "subsystemId");
+            return this;
+        }
+
+        public Builder correlationIdSupplier(Supplier<String> correlationIdSupplier) {
+            this.correlationIdSupplier = Objects.requireNonNull(correlationIdSupplier, "correlationIdSupplier");
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = Objects.requireNonNull(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        /**
+         * Deadline for each asynchronous call; defaults to the request timeout
+         */
+        public Builder callDeadline(Duration callDeadline) {
+            this.callDeadline = Objects.requireNonNull(callDeadline, "callDeadline");
+            return this;
+        }
+
+        /**
+         * Maximum number of requests in flight for one multi-CID lookup
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Enable the response cache for blocking GETs with the given capacity; 0 (the default) disables it
+         */
+        public Builder cacheMaxEntries(int cacheMaxEntries) {
+            if (cacheMaxEntries < 0) {
+                throw new IllegalArgumentException("cacheMaxEntries must not be negative");
+            }
+            this.cacheMaxEntries = cacheMaxEntries;
+            return this;
+        }
+
+        /**
+         * Retry idempotent requests up to {@code maxAttempts} times in total, as long
+         * as the whole call, backoff included, fits in {@code budget}
+         */
+        public Builder retries(int maxAttempts, Duration budget) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            this.retryBudget = Objects.requireNonNull(budget, "budget");
+            return this;
+        }
+
+        /**
+         * Send a duplicate GET when a response takes longer than the observed p95 latency
+         */
+        public Builder hedging(boolean hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Guard provider calls with the given circuit breaker, which may be shared
+         * between clients of the same provider
+         */
+        public Builder circuitBreaker(CircuitBreaker breaker) {
+            this.breaker = Objects.requireNonNull(breaker, "breaker");
+            return this;
+        }
+
+        public PersonAddressClient build() {
+            return new PersonAddressClient(this);
+        }
+    }
+}
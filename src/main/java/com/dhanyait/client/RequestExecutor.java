@@ -0,0 +1,215 @@
+package com.dhanyait.client;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedging and retry policy for PersonAddressClient requests
+ *
+ * - Retries (retriable requests, i.e. idempotent ones): connection failures and
+ *   retriable 5xx responses (500, 502, 503, 504) are retried with full-jitter
+ *   exponential backoff, up to {@code maxAttempts} and only while the total
+ *   deadline budget allows another attempt.
+ * - Hedging (hedgeable requests, i.e. GETs only): if an attempt has not completed
+ *   after the p95 latency of successful GETs, a duplicate is sent and whichever
+ *   answers first wins; the loser's body is closed. Writes are never duplicated
+ *   this way, even when an idempotency key makes them retriable.
+ *
+ * Non-idempotent requests (POST without an idempotency key) are sent exactly once,
+ * and calls rejected by an open circuit breaker are never retried.
+ * The whole call, including retries and hedges, fails with a TimeoutException
+ * once the budget is spent.
+ */
+final class RequestExecutor {
+
+    private static final Set<Integer> RETRIABLE_STATUSES = Set.of(500, 502, 503, 504);
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int MIN_HEDGE_SAMPLES = 20;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "person-address-client-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxAttempts;
+    private final long budgetNanos;
+    private final boolean hedging;
+    /**
+     * Latency of successful hedgeable (GET) attempts only; fast errors and writes would skew the hedge delay
+     */
+    private final Histogram getLatencyMicros = new Histogram();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    RequestExecutor(int maxAttempts, Duration budget, boolean hedging) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.budgetNanos = budget.toNanos();
+        this.hedging = hedging;
+    }
+
+    /**
+     * @param retriable whether the request may be sent again after a failed attempt
+     * @param hedgeable whether a slow attempt may be raced by a duplicate (GETs only)
+     */
+    <T> CompletableFuture<HttpResponse<T>> execute(Supplier<CompletableFuture<HttpResponse<T>>> send,
+                                                   boolean retriable, boolean hedgeable) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + budgetNanos;
+        attempt(send, retriable, hedgeable, 1, deadline, result);
+        return result.orTimeout(budgetNanos, TimeUnit.NANOSECONDS);
+    }
+
+    ResilienceStats stats() {
+        long p95 = getLatencyMicros.count() >= MIN_HEDGE_SAMPLES ? getLatencyMicros.interpolatedPercentile(95) : 0;
+        return new ResilienceStats(retries.sum(), hedges.sum(), hedgeWins.sum(), p95);
+    }
+
+    private <T> void attempt(Supplier<CompletableFuture<HttpResponse<T>>> send, boolean retriable,
+                             boolean hedgeable, int attemptNo, long deadline,
+                             CompletableFuture<HttpResponse<T>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<HttpResponse<T>> call = !hedgeable ? start(send)
+                : hedging ? hedged(send) : timed(send);
+
+        call.whenComplete((response, failure) -> {
+            Throwable cause = unwrap(failure);
+            boolean retry = retriable
+                    && attemptNo < maxAttempts
+                    && (isRetriableFailure(cause) || (response != null && RETRIABLE_STATUSES.contains(response.statusCode())));
+            long backoff = retry ? backoffNanos(attemptNo) : 0;
+            if (!retry || System.nanoTime() + backoff >= deadline || result.isDone()) {
+                if (cause != null) {
+                    result.completeExceptionally(cause);
+                } else if (!result.complete(response)) {
+                    discard(response);
+                }
+                return;
+            }
+            discard(response);
+            retries.increment();
+            SCHEDULER.schedule(() -> attempt(send, retriable, hedgeable, attemptNo + 1, deadline, result),
+                    backoff, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    /**
+     * Send once, and once more if the first attempt outlives the p95 latency
+     */
+    private <T> CompletableFuture<HttpResponse<T>> hedged(Supplier<CompletableFuture<HttpResponse<T>>> send) {
+        long hedgeDelayMicros = getLatencyMicros.count() >= MIN_HEDGE_SAMPLES ? getLatencyMicros.interpolatedPercentile(95) : 0;
+        if (hedgeDelayMicros <= 0) {
+            return timed(send);
+        }
+
+        CompletableFuture<HttpResponse<T>> race = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        AtomicBoolean hedgeSent = new AtomicBoolean();
+        forward(timed(send), race, outstanding, false);
+
+        ScheduledFuture<?> timer = SCHEDULER.schedule(() -> {
+            if (!race.isDone() && hedgeSent.compareAndSet(false, true)) {
+                hedges.increment();
+                outstanding.incrementAndGet();
+                forward(timed(send), race, outstanding, true);
+            }
+        }, hedgeDelayMicros, TimeUnit.MICROSECONDS);
+        race.whenComplete((response, failure) -> timer.cancel(false));
+        return race;
+    }
+
+    private <T> void forward(CompletableFuture<HttpResponse<T>> attempt, CompletableFuture<HttpResponse<T>> race,
+                             AtomicInteger outstanding, boolean isHedge) {
+        attempt.whenComplete((response, failure) -> {
+            int left = outstanding.decrementAndGet();
+            if (failure != null) {
+                // Let a still-running sibling answer before giving up
+                if (left == 0) {
+                    race.completeExceptionally(failure);
+                }
+                return;
+            }
+            // Count the win first: completing the race runs the caller's continuations
+            if (isHedge) {
+                hedgeWins.increment();
+            }
+            if (!race.complete(response)) {
+                if (isHedge) {
+                    hedgeWins.decrement();
+                }
+                discard(response);
+            }
+        });
+    }
+
+    /**
+     * A hedgeable attempt, recording its latency when it succeeds
+     */
+    private <T> CompletableFuture<HttpResponse<T>> timed(Supplier<CompletableFuture<HttpResponse<T>>> send) {
+        long start = System.nanoTime();
+        return start(send).whenComplete((response, failure) -> {
+            if (response != null && isSuccessful(response.statusCode())) {
+                getLatencyMicros.record((System.nanoTime() - start) / 1_000);
+            }
+        });
+    }
+
+    private static <T> CompletableFuture<HttpResponse<T>> start(Supplier<CompletableFuture<HttpResponse<T>>> send) {
+        try {
+            return send.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isSuccessful(int statusCode) {
+        return (statusCode >= 200 && statusCode < 300) || statusCode == 304;
+    }
+
+    private static boolean isRetriableFailure(Throwable cause) {
+        // An open breaker would only reject the retry as well
+        return cause instanceof IOException && !(cause instanceof CircuitOpenException);
+    }
+
+    private static long backoffNanos(int attemptNo) {
+        long ceiling = Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << Math.min(attemptNo - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void discard(HttpResponse<?> response) {
+        if (response != null && response.body() instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+                // Losing or retried response; nothing useful to do with a close failure
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+}
@@ -0,0 +1,14 @@
+package com.dhanyait.client;
+
+/**
+ * Point-in-time counters of the PersonAddressClient hedging and retry policy
+ *
+ * @param retries   attempts re-sent after a failure or retriable 5xx response
+ * @param hedges    duplicate GETs sent because the p95 latency was exceeded
+ * @param hedgeWins hedged duplicates that answered before the original attempt
+ * @param p95Micros current hedge threshold in microseconds, 0 until enough samples exist
+ */
+public record ResilienceStats(long retries, long hedges, long hedgeWins, long p95Micros) {
+
+    public static final ResilienceStats EMPTY = new ResilienceStats(0, 0, 0, 0);
+}
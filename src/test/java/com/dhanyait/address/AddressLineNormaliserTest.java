@@ -0,0 +1,71 @@
+package com.dhanyait.address;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Line Normaliser")
+class AddressLineNormaliserTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "  FLAT 7c   |Flat 7C",
+            "windsor    COURT|Windsor Court",
+            "123 kensington road,|123 Kensington Road",
+            "' ,kensington , '|Kensington",
+            "apartment 12|Apartment 12",
+            "221b baker street|221B Baker Street",
+            "stratford-upon-avon|Stratford-Upon-Avon",
+            "'\tThe  Royal\u00A0 \tChambers '|The Royal Chambers",
+            "'\u00A0flat\u00A07c\u00A0'|Flat 7C",
+            "1ST floor|1st Floor",
+            "22nd  AVENUE|22nd Avenue",
+            "3rd/4th floor|3rd/4th Floor",
+            "2b 1stop road|2B 1STOP Road",
+            "LONDON|London"
+    })
+    @DisplayName("Canonicalises whitespace, casing and separators")
+    void normalisesLine(String raw, String expected) {
+        AddressLineNormaliser normaliser = new AddressLineNormaliser();
+
+        assertEquals(expected.length(), normaliser.normalise(raw));
+        assertEquals(expected, normaliser.toString());
+        assertTrue(normaliser.contentEquals(expected));
+    }
+
+    @Test
+    @DisplayName("Reuses one buffer across legacy 5-line address")
+    void reusesBufferAcrossLines() {
+        AddressLineNormaliser normaliser = new AddressLineNormaliser(16);
+        List<String> legacy = List.of(" flat 7C ", "WINDSOR COURT", "123  kensington road",
+                "kensington,", "  london");
+        StringBuilder joined = new StringBuilder();
+
+        for (String line : legacy) {
+            normaliser.normalise(line);
+            if (joined.length() > 0) {
+                joined.append(", ");
+            }
+            normaliser.appendTo(joined);
+        }
+
+        assertEquals("Flat 7C, Windsor Court, 123 Kensington Road, Kensington, London", joined.toString());
+    }
+
+    @Test
+    @DisplayName("Grows buffer for long lines and handles blank input")
+    void handlesLongAndBlankLines() {
+        AddressLineNormaliser normaliser = new AddressLineNormaliser(16);
+
+        normaliser.normalise("a".repeat(40));
+        assertEquals("A" + "a".repeat(39), normaliser.toString());
+
+        assertEquals(0, normaliser.normalise("  ,  "));
+        assertEquals("", normaliser.toString());
+    }
+}
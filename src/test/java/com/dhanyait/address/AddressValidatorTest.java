@@ -0,0 +1,70 @@
+package com.dhanyait.address;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Validator")
+class AddressValidatorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SW1A 1AA", "SW1A 2AA", "EH1 2NG", "CF10 3ND", "BT1 5GS", "SW1H 0NW",
+            "NW1 6XE", "W8 5SA", "M1 1AE", "B33 8TH", "sw1a1aa", "GIR 0AA"})
+    @DisplayName("Accepts well-formed UK postcodes")
+    void acceptsValidPostcodes(String postcode) {
+        assertTrue(AddressValidator.isValidUkPostcode(postcode), postcode);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "SW1A", "SW1A 1A", "1SW 1AA", "SW1AA 1AA", "SW1A  1AA", "SW1A 11A",
+            "S 1 1AA", "GIR 1AA", "ABCDEFG"})
+    @DisplayName("Rejects malformed UK postcodes")
+    void rejectsInvalidPostcodes(String postcode) {
+        assertFalse(AddressValidator.isValidUkPostcode(postcode), postcode);
+    }
+
+    @Test
+    @DisplayName("Valid legacy 5-line payload has no errors")
+    void acceptsLegacyFiveLines() {
+        List<String> errors = AddressValidator.validate(
+                List.of("Flat 7C", "Windsor Court", "123 Kensington Road", "Kensington", "London"),
+                "W8 5SA", "GB");
+
+        assertTrue(errors.isEmpty(), errors.toString());
+    }
+
+    @Test
+    @DisplayName("Missing postcode matches the 400 contract wording")
+    void reportsMissingPostcode() {
+        List<String> errors = AddressValidator.validate(List.of("10 Downing Street"), null, "GB");
+
+        assertEquals(List.of("postcode is required"), errors);
+    }
+
+    @Test
+    @DisplayName("Collects every field error in one pass")
+    void collectsAllErrors() {
+        List<String> errors = AddressValidator.validate(
+                List.of("1", " ", "3", "4", "5", "x".repeat(AddressValidator.MAX_LINE_LENGTH + 1)),
+                "NOT A POSTCODE", "gbr");
+
+        assertEquals(List.of(
+                "address_lines must not contain more than 5 lines",
+                "address_lines[1] must not be blank",
+                "address_lines[5] must not exceed 100 characters",
+                "country_code must be a two-letter ISO country code"), errors);
+    }
+
+    @Test
+    @DisplayName("Rejects malformed postcode for GB addresses")
+    void rejectsMalformedGbPostcode() {
+        List<String> errors = AddressValidator.validate(List.of("221B Baker Street"), "NW16", "GB");
+
+        assertEquals(List.of("postcode is not a valid UK postcode"), errors);
+    }
+}
@@ -0,0 +1,86 @@
+package com.dhanyait.address;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Postcode Codec")
+class PostcodeCodecTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("Round-trips every postcode in the stub files")
+    void roundTripsStubPostcodes() throws Exception {
+        List<String> postcodes = stubPostcodes();
+        assertFalse(postcodes.isEmpty(), "Stub files should contain postcodes");
+
+        for (String postcode : postcodes) {
+            long code = PostcodeCodec.encode(postcode);
+            assertEquals(postcode, PostcodeCodec.decode(code), postcode);
+            assertEquals(code, PostcodeCodec.encode(postcode.toLowerCase().replace(" ", "")), postcode);
+        }
+    }
+
+    @Test
+    @DisplayName("Code order follows outward then inward code")
+    void preservesOrder() {
+        List<String> sorted = List.of("EH1 2NG", "SW1 1AA", "SW1A 1AA", "SW1A 2AA", "SW1H 0NW", "W8 5SA");
+
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(PostcodeCodec.encode(sorted.get(i - 1)) < PostcodeCodec.encode(sorted.get(i)),
+                    sorted.get(i - 1) + " < " + sorted.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Outward range covers exactly one outward code")
+    void outwardRange() {
+        long code = PostcodeCodec.encode("SW1A 1AA");
+        long start = PostcodeCodec.outwardRangeStart(code);
+        long end = PostcodeCodec.outwardRangeEnd(code);
+
+        long sameOutward = PostcodeCodec.encode("SW1A 2AA");
+        assertTrue(sameOutward >= start && sameOutward <= end);
+        assertEquals(PostcodeCodec.outwardCode(code), PostcodeCodec.outwardCode(sameOutward));
+
+        long otherOutward = PostcodeCodec.encode("SW1H 0NW");
+        assertTrue(otherOutward > end);
+    }
+
+    @Test
+    @DisplayName("Rejects invalid postcodes")
+    void rejectsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> PostcodeCodec.encode("NOT A POSTCODE"));
+        assertThrows(IllegalArgumentException.class, () -> PostcodeCodec.encode(null));
+    }
+
+    private static List<String> stubPostcodes() throws IOException, URISyntaxException {
+        Path stubs = Path.of(PostcodeCodecTest.class.getClassLoader().getResource("stubs").toURI());
+        try (Stream<Path> files = Files.walk(stubs)) {
+            return files.filter(p -> p.toString().endsWith(".json"))
+                    .map(PostcodeCodecTest::readTree)
+                    .filter(node -> node.hasNonNull("postcode"))
+                    .map(node -> node.get("postcode").asText())
+                    .toList();
+        }
+    }
+
+    private static JsonNode readTree(Path file) {
+        try {
+            return MAPPER.readTree(file.toFile());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read stub file: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.dhanyait.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Lookup Batcher")
+class AddressLookupBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<List<AddressLookup>> echoLoader(List<String> cids) {
+        batches.add(cids);
+        return CompletableFuture.completedFuture(cids.stream()
+                .map(cid -> new AddressLookup(cid, new AddressResponse(200, address(cid), null), null))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Lookups within the window share one batch")
+    void coalescesWithinWindow() throws Exception {
+        try (AddressLookupBatcher batcher = new AddressLookupBatcher(this::echoLoader, Duration.ofMillis(100), 50)) {
+            CompletableFuture<AddressResponse> first = batcher.getAddress("CID000001");
+            CompletableFuture<AddressResponse> second = batcher.getAddress("CID000002");
+            CompletableFuture<AddressResponse> third = batcher.getAddress("CID000003");
+
+            assertEquals("CID000002", second.get(5, TimeUnit.SECONDS).address().data().get(0));
+            assertEquals("CID000001", first.get(5, TimeUnit.SECONDS).address().data().get(0));
+            assertEquals("CID000003", third.get(5, TimeUnit.SECONDS).address().data().get(0));
+            assertEquals(List.of(List.of("CID000001", "CID000002", "CID000003")), batches);
+            assertEquals(1, batcher.batchSizeHistogram().count());
+            assertEquals(3, batcher.batchSizeHistogram().max());
+            assertEquals(3, batcher.latencyHistogram().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Reaching max batch size dispatches without waiting for the window")
+    void flushesAtMaxBatchSize() throws Exception {
+        try (AddressLookupBatcher batcher = new AddressLookupBatcher(this::echoLoader, Duration.ofHours(1), 2)) {
+            CompletableFuture<AddressResponse> first = batcher.getAddress("CID000001");
+            CompletableFuture<AddressResponse> second = batcher.getAddress("CID000002");
+
+            assertEquals(200, first.get(5, TimeUnit.SECONDS).statusCode());
+            assertEquals(200, second.get(5, TimeUnit.SECONDS).statusCode());
+            assertEquals(List.of(List.of("CID000001", "CID000002")), batches);
+        }
+    }
+
+    @Test
+    @DisplayName("Duplicate CIDs in one window share a slot")
+    void deduplicatesCids() throws Exception {
+        try (AddressLookupBatcher batcher = new AddressLookupBatcher(this::echoLoader, Duration.ofMillis(50), 50)) {
+            CompletableFuture<AddressResponse> first = batcher.getAddress("CID123456");
+            CompletableFuture<AddressResponse> second = batcher.getAddress("CID123456");
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(List.of("CID123456")), batches);
+        }
+    }
+
+    @Test
+    @DisplayName("Per-CID and whole-batch failures reach the callers")
+    void propagatesFailures() {
+        IOException perCid = new IOException("connection reset");
+        AddressLookupBatcher.BatchLoader loader = cids -> CompletableFuture.completedFuture(
+                List.of(new AddressLookup("CID777777", null, perCid)));
+
+        try (AddressLookupBatcher batcher = new AddressLookupBatcher(loader, Duration.ofMillis(10), 50)) {
+            CompletableFuture<AddressResponse> failed = batcher.getAddress("CID777777");
+            CompletableFuture<AddressResponse> missing = batcher.getAddress("CID999999");
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertSame(perCid, e.getCause());
+            e = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Batches single GETs through PersonAddressClient fan-out")
+    void batchesThroughClient() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange ->
+                StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(StubAddressServer.cid(exchange))));
+             AddressLookupBatcher batcher = new AddressLookupBatcher(
+                     PersonAddressClient.create(server.baseUrl()), Duration.ofMillis(20), 10)) {
+
+            List<CompletableFuture<AddressResponse>> futures = List.of(
+                    batcher.getAddress("CID200001"), batcher.getAddress("CID200002"), batcher.getAddress("CID200001"));
+
+            for (CompletableFuture<AddressResponse> future : futures) {
+                assertEquals(200, future.get(5, TimeUnit.SECONDS).statusCode());
+            }
+            assertEquals(2, server.requestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Closed batcher rejects new lookups")
+    void rejectsAfterClose() {
+        AddressLookupBatcher batcher = new AddressLookupBatcher(this::echoLoader, Duration.ofMillis(10), 10);
+        batcher.close();
+
+        assertTrue(batcher.getAddress("CID123456").isCompletedExceptionally());
+    }
+
+    private static Address address(String cid) {
+        return new Address(List.of(cid), "SW1A 1AA", "RESIDENTIAL", "CURRENT", null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.dhanyait.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Response Cache")
+class AddressResponseCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final CreateAddressRequest BODY =
+            new CreateAddressRequest(List.of("10 Downing Street", "London"), "SW1A 2AA", "GB");
+
+    private static void respondWithEtag(HttpExchange exchange, String cacheControl) throws IOException {
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.getResponseHeaders().set("ETag", ETAG);
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (cacheControl != null) {
+            exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        }
+        StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(StubAddressServer.cid(exchange)));
+    }
+
+    @Test
+    @DisplayName("Revalidates with If-None-Match and treats 304 as a hit")
+    void revalidatesWithEtag() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> respondWithEtag(exchange, "no-cache"))) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(10).build();
+
+            AddressResponse first = client.getAddress("CID123456");
+            AddressResponse second = client.getAddress("CID123456");
+
+            assertEquals(2, server.requestCount());
+            assertSame(first, second);
+            CacheStats stats = client.cacheStats();
+            assertEquals(1, stats.misses());
+            assertEquals(1, stats.hits());
+            assertEquals(1, stats.revalidations());
+            assertEquals(1, stats.notModified());
+            assertEquals(0.5, stats.hitRatio(), 0.0001);
+        }
+    }
+
+    @Test
+    @DisplayName("Serves fresh entries without a request while max-age holds")
+    void servesFreshEntries() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> respondWithEtag(exchange, "max-age=60"))) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(10).build();
+
+            client.getAddress("CID123456");
+            client.getAddress("CID123456");
+            client.getAddress("CID123456");
+
+            assertEquals(1, server.requestCount());
+            assertEquals(2, client.cacheStats().hits());
+            assertEquals(0, client.cacheStats().revalidations());
+        }
+    }
+
+    @Test
+    @DisplayName("Never stores no-store responses or errors")
+    void skipsUncacheableResponses() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            if (StubAddressServer.cid(exchange).equals("CID777777")) {
+                StubAddressServer.respond(exchange, 500, "{\"error\":\"INTERNAL_SERVER_ERROR\"}");
+            } else {
+                exchange.getResponseHeaders().set("Cache-Control", "no-store");
+                StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson("no-store"));
+            }
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(10).build();
+
+            client.getAddress("CID123456");
+            client.getAddress("CID123456");
+            client.getAddress("CID777777");
+            client.getAddress("CID777777");
+
+            assertEquals(4, server.requestCount());
+            assertEquals(0, client.cacheStats().size());
+            assertEquals(0.0, client.cacheStats().hitRatio(), 0.0001);
+        }
+    }
+
+    @Test
+    @DisplayName("Evicts least recently used entries beyond capacity")
+    void evictsBeyondCapacity() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> respondWithEtag(exchange, "max-age=60"))) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(2).build();
+
+            client.getAddress("CID200001");
+            client.getAddress("CID200002");
+            client.getAddress("CID200003");
+            client.getAddress("CID200001");
+
+            assertEquals(4, server.requestCount());
+            assertEquals(2, client.cacheStats().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups of one CID share a single request")
+    void coalescesConcurrentLookups() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            Thread.sleep(300);
+            respondWithEtag(exchange, "max-age=60");
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(10).build();
+
+            List<Future<AddressResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(callers.submit(() -> client.getAddress("CID123456")));
+            }
+            for (Future<AddressResponse> future : futures) {
+                assertEquals(200, future.get(5, TimeUnit.SECONDS).statusCode());
+            }
+
+            assertEquals(1, server.requestCount());
+            CacheStats stats = client.cacheStats();
+            assertEquals(8, stats.hits() + stats.misses() + stats.coalesced());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A GET in flight when the CID is invalidated is not re-cached")
+    void invalidationWinsOverInFlightFetch() throws Exception {
+        CountDownLatch getReceived = new CountDownLatch(1);
+        CountDownLatch postDone = new CountDownLatch(1);
+        AtomicInteger gets = new AtomicInteger();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            if (exchange.getRequestMethod().equals("POST")) {
+                StubAddressServer.respond(exchange, 201, StubAddressServer.addressJson("created"));
+                return;
+            }
+            if (gets.incrementAndGet() == 1) {
+                getReceived.countDown();
+                postDone.await(5, TimeUnit.SECONDS);
+            }
+            respondWithEtag(exchange, "max-age=60");
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl()).cacheMaxEntries(10).build();
+
+            Future<AddressResponse> stale = callers.submit(() -> client.getAddress("CID123456"));
+            assertTrue(getReceived.await(5, TimeUnit.SECONDS));
+            assertEquals(201, client.createAddress("CID123456", BODY, "corr-1").statusCode());
+            postDone.countDown();
+            assertEquals(200, stale.get(5, TimeUnit.SECONDS).statusCode());
+
+            client.getAddress("CID123456");
+            assertEquals(2, gets.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
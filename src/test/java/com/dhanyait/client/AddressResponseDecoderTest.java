@@ -0,0 +1,123 @@
+package com.dhanyait.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Address Response Decoder")
+class AddressResponseDecoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "get/get-address-success-CID123456.json",
+            "get/get-address-downingstreet-CID200001.json",
+            "get/get-address-edinburghcastle-CID200002.json",
+            "get/get-address-cardiffcityhall-CID200003.json",
+            "get/get-address-belfastcityhall-CID200004.json",
+            "get/get-address-legacy5lines-CID300001.json",
+            "post/post-address-success-response.json",
+            "post/post-address-legacy5lines-response.json"
+    })
+    @DisplayName("Streams address stubs to the same record as data binding")
+    void decodesAddressStubs(String stub) throws IOException {
+        AddressResponse response = AddressResponseDecoder.decode(200, openStub(stub));
+
+        assertTrue(response.isSuccess());
+        assertNull(response.error());
+        assertEquals(MAPPER.readValue(openStub(stub), Address.class), response.address());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "get/get-address-notfound-CID999999.json",
+            "get/get-address-servererror-CID777777.json",
+            "post/post-address-badrequest-response.json",
+            "post/post-address-notfound-response.json",
+            "post/post-address-servererror-response.json"
+    })
+    @DisplayName("Streams error stubs to the same record as data binding")
+    void decodesErrorStubs(String stub) throws IOException {
+        AddressResponse response = AddressResponseDecoder.decode(404, openStub(stub));
+
+        assertNull(response.address());
+        assertEquals(MAPPER.readValue(openStub(stub), ApiError.class), response.error());
+    }
+
+    @Test
+    @DisplayName("Skips unknown and mistyped fields")
+    void skipsUnknownFields() throws IOException {
+        String json = """
+                {
+                  "extra": {"nested": [1, 2, {"deep": true}]},
+                  "data": ["Flat 5B", null, "London"],
+                  "postcode": "SW1A 1AA",
+                  "addressTypeId": {"unexpected": "object"},
+                  "timeliness": {"createdDate": "2024-01-15T10:30:45.123Z", "other": [1]}
+                }
+                """;
+
+        Address address = AddressResponseDecoder.decode(200, stream(json)).address();
+
+        assertEquals(List.of("Flat 5B", "London"), address.data());
+        assertEquals("SW1A 1AA", address.postcode());
+        assertNull(address.addressTypeId());
+        assertEquals("2024-01-15T10:30:45.123Z", address.timeliness().createdDate());
+        assertNull(address.timeliness().lastUpdateDate());
+    }
+
+    @Test
+    @DisplayName("Empty body decodes to status only")
+    void decodesEmptyBody() throws IOException {
+        AddressResponse response = AddressResponseDecoder.decode(204, stream(""));
+
+        assertEquals(204, response.statusCode());
+        assertNull(response.address());
+        assertNull(response.error());
+    }
+
+    @Test
+    @DisplayName("Non-JSON error bodies decode to status only")
+    void skipsNonJsonErrorBodies() throws IOException {
+        String html = "<html><body><h1>502 Bad Gateway</h1></body></html>";
+
+        AddressResponse typed = AddressResponseDecoder.decode(502, "text/html; charset=utf-8", stream(html));
+        AddressResponse untyped = AddressResponseDecoder.decode(502, stream(html));
+
+        assertEquals(502, typed.statusCode());
+        assertNull(typed.error());
+        assertEquals(502, untyped.statusCode());
+        assertNull(untyped.error());
+        assertEquals("NOT_FOUND", AddressResponseDecoder.decode(404, "application/problem+json",
+                stream("{\"error\":\"NOT_FOUND\"}")).error().error());
+    }
+
+    @Test
+    @DisplayName("Non-JSON success bodies are still rejected")
+    void rejectsNonJsonSuccessBodies() {
+        assertThrows(IOException.class, () -> AddressResponseDecoder.decode(200, "text/html", stream("<html/>")));
+    }
+
+    private static InputStream openStub(String stub) {
+        InputStream in = AddressResponseDecoderTest.class.getClassLoader().getResourceAsStream("stubs/" + stub);
+        assertNotNull(in, "Missing stub file: " + stub);
+        return in;
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
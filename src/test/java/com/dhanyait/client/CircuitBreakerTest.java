@@ -0,0 +1,188 @@
+package com.dhanyait.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Circuit Breaker")
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("Opens once the window failure rate reaches the threshold")
+    void opensAtThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, Duration.ofMinutes(1));
+
+        breaker.tryAcquire().onSuccess();
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.tryAcquire().onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Old outcomes slide out of the window")
+    void slidesWindow() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, Duration.ofMinutes(1));
+
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire().onSuccess();
+        }
+
+        assertEquals(0.0, breaker.failureRate(), 0.0001);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Lets a single probe through when half-open and closes on success")
+    void halfOpenProbeCloses() throws Exception {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(80);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+
+        probe.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("A failed probe opens the breaker again")
+    void halfOpenProbeReopens() throws Exception {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(80);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        probe.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("A call admitted before the trip cannot decide the half-open probe")
+    void lateCompletionWhileHalfOpen() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, Duration.ofMillis(50));
+        CircuitBreaker.Permit late = breaker.tryAcquire();
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Thread.sleep(80);
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+
+        late.onSuccess();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        late.onFailure();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        probe.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("A probe that was taken over cannot reopen the breaker")
+    void staleProbeIgnored() throws Exception {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(50));
+        Thread.sleep(80);
+        CircuitBreaker.Permit abandoned = breaker.tryAcquire();
+        assertNotNull(abandoned);
+        Thread.sleep(80);
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+
+        probe.onSuccess();
+        abandoned.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Exactly one concurrent caller wins the half-open probe")
+    void singleProbeUnderContention() throws Exception {
+        CircuitBreaker breaker = tripped(Duration.ofMillis(20));
+        Thread.sleep(50);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        try {
+            for (int i = 0; i < 8; i++) {
+                callers.submit(() -> {
+                    start.await();
+                    if (breaker.tryAcquire() != null) {
+                        granted.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, granted.get());
+    }
+
+    @Test
+    @DisplayName("Client fails fast while open and recovers through the probe")
+    void guardsClientCalls() throws Exception {
+        AtomicBoolean degraded = new AtomicBoolean(true);
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            if (degraded.get()) {
+                StubAddressServer.respond(exchange, 503, "{\"error\":\"SERVICE_UNAVAILABLE\"}");
+            } else {
+                StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(StubAddressServer.cid(exchange)));
+            }
+        })) {
+            CircuitBreaker breaker = new CircuitBreaker(10, 5, 0.5, Duration.ofMillis(200));
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .circuitBreaker(breaker)
+                    .build();
+
+            for (int i = 0; i < 5; i++) {
+                assertEquals(503, client.getAddress("CID123456").statusCode());
+            }
+            assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+            assertThrows(CircuitOpenException.class, () -> client.getAddress("CID123456"));
+            List<AddressLookup> lookups = client.getAddresses(List.of("CID000001", "CID000002"))
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(lookups.stream().allMatch(lookup -> lookup.failure() instanceof CircuitOpenException));
+            assertEquals(5, server.requestCount());
+
+            degraded.set(false);
+            Thread.sleep(250);
+            assertEquals(200, client.getAddress("CID123456").statusCode());
+            assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        }
+    }
+
+    private static CircuitBreaker tripped(Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, openDuration);
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        return breaker;
+    }
+}
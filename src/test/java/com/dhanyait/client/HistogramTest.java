@@ -0,0 +1,49 @@
+package com.dhanyait.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Histogram")
+class HistogramTest {
+
+    @Test
+    @DisplayName("Bucket percentile reports the bucket upper bound")
+    void percentileIsBucketUpperBound() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(511, histogram.percentile(50));
+        assertEquals(1000, histogram.percentile(95));
+    }
+
+    @Test
+    @DisplayName("Interpolated percentile stays close to the true value")
+    void interpolatedPercentileTracksTrueValue() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(500, histogram.interpolatedPercentile(50), 10);
+        assertEquals(950, histogram.interpolatedPercentile(95), 25);
+        assertEquals(1000, histogram.interpolatedPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Interpolation within the top bucket stops at the maximum")
+    void interpolatedPercentileCappedAtMax() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 600; value++) {
+            histogram.record(value * 100L);
+        }
+
+        long p95 = histogram.interpolatedPercentile(95);
+
+        assertTrue(p95 >= 55_000 && p95 <= 60_000, "p95 was " + p95);
+        assertEquals(0, new Histogram().interpolatedPercentile(95));
+    }
+}
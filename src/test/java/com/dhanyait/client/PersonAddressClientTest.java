@@ -0,0 +1,131 @@
+package com.dhanyait.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Person Address Client")
+class PersonAddressClientTest {
+
+    @Test
+    @DisplayName("Fan-out never exceeds the concurrency cap")
+    void fanOutRespectsConcurrencyCap() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            Thread.sleep(50);
+            StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(StubAddressServer.cid(exchange)));
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .maxConcurrency(4)
+                    .build();
+            List<String> cids = IntStream.range(0, 20).mapToObj(i -> "CID" + (100000 + i)).toList();
+
+            List<AddressLookup> results = client.getAddresses(cids).get(10, TimeUnit.SECONDS);
+
+            assertEquals(20, results.size());
+            assertTrue(results.stream().noneMatch(AddressLookup::isFailed));
+            assertEquals(cids.size(), results.stream().map(AddressLookup::cid).distinct().count());
+            for (AddressLookup lookup : results) {
+                assertEquals(lookup.cid(), lookup.response().address().data().get(0));
+            }
+            assertTrue(server.maxInFlight() <= 4, "max in flight was " + server.maxInFlight());
+        }
+    }
+
+    @Test
+    @DisplayName("Fan-out returns results in input order and reports them in completion order")
+    void fanOutOrdering() throws Exception {
+        Map<String, Long> delays = Map.of("CID000001", 400L, "CID000002", 0L, "CID000003", 200L);
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            String cid = StubAddressServer.cid(exchange);
+            Thread.sleep(delays.get(cid));
+            StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(cid));
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .maxConcurrency(3)
+                    .build();
+
+            List<String> arrivals = new CopyOnWriteArrayList<>();
+            List<AddressLookup> results = client.getAddresses(List.of("CID000001", "CID000002", "CID000003"),
+                            lookup -> arrivals.add(lookup.cid()))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of("CID000001", "CID000002", "CID000003"),
+                    results.stream().map(AddressLookup::cid).toList());
+            assertEquals(List.of("CID000002", "CID000003", "CID000001"), arrivals);
+        }
+    }
+
+    @Test
+    @DisplayName("Calls exceeding the deadline fail individually")
+    void fanOutAppliesPerCallDeadline() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            String cid = StubAddressServer.cid(exchange);
+            if (cid.equals("CID777777")) {
+                Thread.sleep(2000);
+            }
+            StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson(cid));
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .callDeadline(Duration.ofMillis(300))
+                    .build();
+
+            List<AddressLookup> results = client.getAddresses(List.of("CID777777", "CID123456"))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertEquals(2, results.size());
+            assertEquals("CID777777", results.get(0).cid());
+            assertTrue(results.get(0).isFailed());
+            assertNull(results.get(0).response());
+            assertEquals("CID123456", results.get(1).cid());
+            assertFalse(results.get(1).isFailed());
+        }
+    }
+
+    @Test
+    @DisplayName("Empty fan-out completes immediately")
+    void fanOutWithNoCids() throws Exception {
+        PersonAddressClient client = PersonAddressClient.create("http://localhost:1");
+
+        assertEquals(List.of(), client.getAddresses(List.of()).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Fan-out over synchronously failing calls does not recurse")
+    void fanOutWithOpenBreaker() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, Duration.ofMinutes(1));
+        breaker.tryAcquire().onFailure();
+        breaker.tryAcquire().onFailure();
+        PersonAddressClient client = PersonAddressClient.builder("http://localhost:1")
+                .circuitBreaker(breaker)
+                .maxConcurrency(4)
+                .build();
+        List<String> cids = IntStream.range(0, 50_000).mapToObj(i -> "CID" + i).toList();
+
+        List<AddressLookup> lookups = client.getAddresses(cids).get(10, TimeUnit.SECONDS);
+
+        assertEquals(cids.size(), lookups.size());
+        assertTrue(lookups.stream().allMatch(lookup -> lookup.failure() instanceof CircuitOpenException));
+    }
+
+    @Test
+    @DisplayName("Rejects CIDs that are not a single safe path segment")
+    void rejectsInvalidCids() throws Exception {
+        PersonAddressClient client = PersonAddressClient.create("http://localhost:1");
+
+        assertThrows(IllegalArgumentException.class, () -> client.getAddress("CID 1"));
+        assertThrows(IllegalArgumentException.class, () -> client.getAddress("x/../../admin"));
+        assertThrows(IllegalArgumentException.class, () -> client.getAddress(""));
+        assertThrows(IllegalArgumentException.class, () -> client.getAddressAsync("CID?x=1"));
+
+        AddressLookup lookup = client.getAddresses(List.of("CID%2F1")).get(1, TimeUnit.SECONDS).get(0);
+        assertInstanceOf(IllegalArgumentException.class, lookup.failure());
+    }
+}
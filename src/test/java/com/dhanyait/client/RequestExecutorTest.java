@@ -0,0 +1,239 @@
+package com.dhanyait.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Request Executor")
+class RequestExecutorTest {
+
+    private static final CreateAddressRequest BODY =
+            new CreateAddressRequest(List.of("10 Downing Street", "London"), "SW1A 2AA", "GB");
+
+    @Test
+    @DisplayName("Retries retriable 5xx responses until one succeeds")
+    void retriesRetriableStatuses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            if (calls.incrementAndGet() <= 2) {
+                StubAddressServer.respond(exchange, 503, "{\"error\":\"SERVICE_UNAVAILABLE\"}");
+            } else {
+                StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson("retried"));
+            }
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(3, Duration.ofSeconds(5))
+                    .build();
+
+            AddressResponse response = client.getAddress("CID123456");
+
+            assertEquals(200, response.statusCode());
+            assertEquals(3, server.requestCount());
+            assertEquals(2, client.resilienceStats().retries());
+        }
+    }
+
+    @Test
+    @DisplayName("Returns the last response once attempts run out")
+    void stopsAfterMaxAttempts() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange ->
+                StubAddressServer.respond(exchange, 500, "{\"error\":\"INTERNAL_SERVER_ERROR\"}"))) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(3, Duration.ofSeconds(5))
+                    .build();
+
+            AddressResponse response = client.getAddress("CID777777");
+
+            assertEquals(500, response.statusCode());
+            assertEquals("INTERNAL_SERVER_ERROR", response.error().error());
+            assertEquals(3, server.requestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Does not retry client errors")
+    void doesNotRetryClientErrors() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange ->
+                StubAddressServer.respond(exchange, 404, "{\"error\":\"NOT_FOUND\"}"))) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(3, Duration.ofSeconds(5))
+                    .build();
+
+            assertEquals(404, client.getAddress("CID999999").statusCode());
+            assertEquals(1, server.requestCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Retries a POST only when it carries an idempotency key")
+    void retriesPostOnlyWithIdempotencyKey() throws Exception {
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            String key = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            if (key != null) {
+                keys.add(key);
+            }
+            StubAddressServer.respond(exchange, 503, "{\"error\":\"SERVICE_UNAVAILABLE\"}");
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(3, Duration.ofSeconds(5))
+                    .build();
+
+            assertEquals(503, client.createAddress("CID123456", BODY, "corr-1").statusCode());
+            assertEquals(1, server.requestCount());
+
+            assertEquals(503, client.createAddress("CID123456", BODY, "corr-2", "idem-42").statusCode());
+            assertEquals(4, server.requestCount());
+            assertEquals(Set.of("idem-42"), keys);
+        }
+    }
+
+    @Test
+    @DisplayName("Fails once the total deadline budget is spent")
+    void failsWhenBudgetExhausted() throws Exception {
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            Thread.sleep(400);
+            StubAddressServer.respond(exchange, 503, "{\"error\":\"SERVICE_UNAVAILABLE\"}");
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(10, Duration.ofMillis(250))
+                    .build();
+
+            long start = System.nanoTime();
+            assertThrows(HttpTimeoutException.class, () -> client.getAddress("CID123456"));
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Hedges a GET that outlives the observed p95 latency")
+    void hedgesSlowRequests() throws Exception {
+        RequestExecutor executor = new RequestExecutor(1, Duration.ofSeconds(10), true);
+        Executor fast = CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 40; i++) {
+            executor.execute(() -> CompletableFuture.supplyAsync(() -> response(200), fast), true, true)
+                    .get(5, TimeUnit.SECONDS);
+        }
+        ResilienceStats warm = executor.stats();
+        assertTrue(warm.p95Micros() > 0);
+
+        // The original attempt stalls; the hedge, sent once the p95 has passed, answers at once
+        AtomicInteger attempts = new AtomicInteger();
+        Executor stalled = CompletableFuture.delayedExecutor(3, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        HttpResponse<String> result = executor.execute(() -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.supplyAsync(() -> response(500), stalled)
+                : CompletableFuture.completedFuture(response(200)), true, true).get(5, TimeUnit.SECONDS);
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        assertEquals(200, result.statusCode());
+        assertEquals(2, attempts.get());
+        assertEquals(warm.hedges() + 1, executor.stats().hedges());
+        assertEquals(warm.hedgeWins() + 1, executor.stats().hedgeWins());
+    }
+
+    @Test
+    @DisplayName("Never hedges a POST, even one with an idempotency key")
+    void doesNotHedgeKeyedPosts() throws Exception {
+        AtomicInteger posts = new AtomicInteger();
+        try (StubAddressServer server = new StubAddressServer(exchange -> {
+            if (exchange.getRequestMethod().equals("POST")) {
+                posts.incrementAndGet();
+                Thread.sleep(500);
+            }
+            StubAddressServer.respond(exchange, 200, StubAddressServer.addressJson("hedge"));
+        })) {
+            PersonAddressClient client = PersonAddressClient.builder(server.baseUrl())
+                    .retries(3, Duration.ofSeconds(5))
+                    .hedging(true)
+                    .build();
+            for (int i = 0; i < 30; i++) {
+                client.getAddress("CID123456");
+            }
+            ResilienceStats warm = client.resilienceStats();
+            assertTrue(warm.p95Micros() > 0);
+
+            assertEquals(200, client.createAddress("CID123456", BODY, "corr-1", "idem-7").statusCode());
+
+            assertEquals(1, posts.get());
+            assertEquals(warm.hedges(), client.resilienceStats().hedges());
+        }
+    }
+
+    @Test
+    @DisplayName("Only successful GETs set the hedge delay")
+    void hedgeDelayIgnoresErrorsAndWrites() throws Exception {
+        RequestExecutor executor = new RequestExecutor(1, Duration.ofSeconds(10), true);
+        for (int i = 0; i < 40; i++) {
+            executor.execute(() -> CompletableFuture.completedFuture(response(503)), true, true)
+                    .get(5, TimeUnit.SECONDS);
+            executor.execute(() -> CompletableFuture.completedFuture(response(201)), true, false)
+                    .get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(0, executor.stats().p95Micros());
+    }
+
+    private static HttpResponse<String> response(int statusCode) {
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public HttpRequest request() {
+                return null;
+            }
+
+            @Override
+            public Optional<HttpResponse<String>> previousResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.of(Map.of(), (name, value) -> true);
+            }
+
+            @Override
+            public String body() {
+                return "";
+            }
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return Optional.empty();
+            }
+
+            @Override
+            public URI uri() {
+                return URI.create("http://localhost/citizen/CID555555/address");
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.dhanyait.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process HTTP server for PersonAddressClient tests
+ *
+ * Binds an ephemeral loopback port and hands every request to a {@link Route}.
+ * Counts requests and tracks the maximum number of requests in flight so tests
+ * can assert on client-side concurrency.
+ */
+final class StubAddressServer implements AutoCloseable {
+
+    @FunctionalInterface
+    interface Route {
+        void handle(HttpExchange exchange) throws Exception;
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    StubAddressServer(Route route) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                route.handle(exchange);
+            } catch (Exception e) {
+                respond(exchange, 599, "{\"error\":\"STUB_FAILURE\",\"message\":\"" + e + "\"}");
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /**
+     * Extract the CID from a /citizen/{cid}/address request path
+     */
+    static String cid(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring("/citizen/".length(), path.lastIndexOf("/address"));
+    }
+
+    static String addressJson(String firstLine) {
+        return """
+                {
+                  "data": ["%s", "London"],
+                  "postcode": "SW1A 1AA",
+                  "addressTypeId": "RESIDENTIAL",
+                  "addressStatusType": "CURRENT",
+                  "timeliness": {
+                    "createdDate": "2024-01-15T10:30:45.123Z",
+                    "lastUpdateDate": "2024-02-01T14:20:30.456Z"
+                  }
+                }
+                """.formatted(firstLine);
+    }
+
+    static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -14,6 +14,7 @@ import io.qameta.allure.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -27,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @Epic("Person Address Service")
 @Feature("API Contract Testing")
 @DisplayName("Person Address Service - Contract Tests")
+@ResourceLock("pact-files")
 public class PersonAddressServicePact extends BaseWireMockTest {
 
     // ============================================
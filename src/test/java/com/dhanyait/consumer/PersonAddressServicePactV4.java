@@ -8,16 +8,17 @@ import au.com.dius.pact.consumer.junit5.PactTestFor;
 import au.com.dius.pact.core.model.PactSpecVersion;
 import au.com.dius.pact.core.model.V4Pact;
 import au.com.dius.pact.core.model.annotations.Pact;
+import com.dhanyait.client.AddressResponse;
+import com.dhanyait.client.CreateAddressRequest;
+import com.dhanyait.client.PersonAddressClient;
 import com.dhanyait.wiremock.WireMockServiceV1;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -42,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @Epic("Citizen Address Service")
 @Feature("API Contract Testing")
 @DisplayName("Citizen Address Service - Contract Tests")
+@ResourceLock("pact-files")
 public class PersonAddressServicePactV4 extends WireMockServiceV1 {
 
     // ============================================
@@ -98,24 +100,16 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testGetAddressSuccess(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID123456/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-12345-abcde")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        AddressResponse response = client.getAddress("CID123456", "corr-12345-abcde");
 
         // Assertions
         assertEquals(200, response.statusCode(), "Should return 200 OK");
-        assertTrue(response.body().contains("\"data\""), "Response should contain data array");
-        assertTrue(response.body().contains("\"postcode\""), "Response should contain postcode");
-        assertTrue(response.body().contains("SW1A 1AA"), "Response should contain UK postcode");
-        assertTrue(response.body().contains("\"timeliness\""), "Response should contain timeliness");
+        assertFalse(response.address().data().isEmpty(), "Response should contain data array");
+        assertNotNull(response.address().postcode(), "Response should contain postcode");
+        assertEquals("SW1A 1AA", response.address().postcode(), "Response should contain UK postcode");
+        assertNotNull(response.address().timeliness(), "Response should contain timeliness");
     }
 
     // ============================================
@@ -161,22 +155,14 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.NORMAL)
     @Owner("QA Team")
     void testGetAddressNotFound(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID999999/address");
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-67890-fghij")
-                .GET()
-                .build();
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        AddressResponse response = client.getAddress("CID999999", "corr-67890-fghij");
 
         // Assertions
         assertEquals(404, response.statusCode(), "Should return 404 Not Found");
-        assertTrue(response.body().contains("\"error\""), "Response should contain error field");
-        assertTrue(response.body().contains("NOT_FOUND"), "Error should be NOT_FOUND");
+        assertNotNull(response.error(), "Response should contain error field");
+        assertEquals("NOT_FOUND", response.error().error(), "Error should be NOT_FOUND");
     }
 
     // ============================================
@@ -222,22 +208,14 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testGetAddressServerError(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID777777/address");
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-error-11111")
-                .GET()
-                .build();
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        AddressResponse response = client.getAddress("CID777777", "corr-error-11111");
 
         // Assertions
         assertEquals(500, response.statusCode(), "Should return 500 Internal Server Error");
-        assertTrue(response.body().contains("\"error\""), "Response should contain error field");
-        assertTrue(response.body().contains("INTERNAL_SERVER_ERROR"), "Error should indicate server error");
+        assertNotNull(response.error(), "Response should contain error field");
+        assertEquals("INTERNAL_SERVER_ERROR", response.error().error(), "Error should indicate server error");
     }
 
     // ============================================
@@ -307,35 +285,21 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testPostAddressSuccess(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID123456/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
         // Request payload with UK address: 221B Baker Street, London
-        String requestJson = """
-            {
-              "address_lines": ["221B Baker Street"],
-              "postcode": "NW1 6XE",
-              "country_code": "GB"
-            }
-            """;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Content-Type", "application/json")
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-create-22222")
-                .POST(HttpRequest.BodyPublishers.ofString(requestJson))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        CreateAddressRequest request = new CreateAddressRequest(
+                List.of("221B Baker Street"), "NW1 6XE", "GB");
+
+        AddressResponse response = client.createAddress("CID123456", request, "corr-create-22222");
 
         // Assertions
         assertEquals(201, response.statusCode(), "Should return 201 Created");
-        assertTrue(response.body().contains("\"data\""), "Response should contain data array");
-        assertTrue(response.body().contains("\"postcode\""), "Response should contain postcode");
-        assertTrue(response.body().contains("NW1 6XE"), "Response should contain the UK postcode");
-        assertTrue(response.body().contains("\"timeliness\""), "Response should contain timeliness");
-        assertTrue(response.body().contains("\"createdDate\""), "Response should contain creation date");
+        assertFalse(response.address().data().isEmpty(), "Response should contain data array");
+        assertNotNull(response.address().postcode(), "Response should contain postcode");
+        assertEquals("NW1 6XE", response.address().postcode(), "Response should contain the UK postcode");
+        assertNotNull(response.address().timeliness(), "Response should contain timeliness");
+        assertNotNull(response.address().timeliness().createdDate(), "Response should contain creation date");
     }
 
     // ============================================
@@ -395,32 +359,19 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.NORMAL)
     @Owner("QA Team")
     void testPostAddressBadRequest(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID400BAD/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
         // Invalid request: missing required postcode field
-        String requestJson = """
-            {
-              "address_lines": ["10 Downing Street"],
-              "country_code": "GB"
-            }
-            """;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Content-Type", "application/json")
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-bad-33333")
-                .POST(HttpRequest.BodyPublishers.ofString(requestJson))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        CreateAddressRequest request = new CreateAddressRequest(
+                List.of("10 Downing Street"), null, "GB");
+
+        AddressResponse response = client.createAddress("CID400BAD", request, "corr-bad-33333");
 
         // Assertions
         assertEquals(400, response.statusCode(), "Should return 400 Bad Request");
-        assertTrue(response.body().contains("\"error\""), "Response should contain error field");
-        assertTrue(response.body().contains("BAD_REQUEST"), "Error should be BAD_REQUEST");
-        assertTrue(response.body().contains("validationErrors"), "Response should contain validation errors");
+        assertNotNull(response.error(), "Response should contain error field");
+        assertEquals("BAD_REQUEST", response.error().error(), "Error should be BAD_REQUEST");
+        assertFalse(response.error().validationErrors().isEmpty(), "Response should contain validation errors");
     }
 
     // ============================================
@@ -479,33 +430,19 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.NORMAL)
     @Owner("QA Team")
     void testPostAddressNotFound(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID888888/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
         // Request payload with Edinburgh Castle address
-        String requestJson = """
-            {
-              "address_lines": ["Castlehill"],
-              "postcode": "EH1 2NG",
-              "country_code": "GB"
-            }
-            """;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Content-Type", "application/json")
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-notfound-44444")
-                .POST(HttpRequest.BodyPublishers.ofString(requestJson))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        CreateAddressRequest request = new CreateAddressRequest(
+                List.of("Castlehill"), "EH1 2NG", "GB");
+
+        AddressResponse response = client.createAddress("CID888888", request, "corr-notfound-44444");
 
         // Assertions
         assertEquals(404, response.statusCode(), "Should return 404 Not Found");
-        assertTrue(response.body().contains("\"error\""), "Response should contain error field");
-        assertTrue(response.body().contains("NOT_FOUND"), "Error should be NOT_FOUND");
-        assertTrue(response.body().contains("CID888888"), "Error message should reference citizen ID");
+        assertNotNull(response.error(), "Response should contain error field");
+        assertEquals("NOT_FOUND", response.error().error(), "Error should be NOT_FOUND");
+        assertTrue(response.error().message().contains("CID888888"), "Error message should reference citizen ID");
     }
 
     // ============================================
@@ -564,32 +501,18 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testPostAddressServerError(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID555555/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
         // Request payload with Buckingham Palace address
-        String requestJson = """
-            {
-              "address_lines": ["Buckingham Palace"],
-              "postcode": "SW1A 1AA",
-              "country_code": "GB"
-            }
-            """;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Content-Type", "application/json")
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-error-55555")
-                .POST(HttpRequest.BodyPublishers.ofString(requestJson))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        CreateAddressRequest request = new CreateAddressRequest(
+                List.of("Buckingham Palace"), "SW1A 1AA", "GB");
+
+        AddressResponse response = client.createAddress("CID555555", request, "corr-error-55555");
 
         // Assertions
         assertEquals(500, response.statusCode(), "Should return 500 Internal Server Error");
-        assertTrue(response.body().contains("\"error\""), "Response should contain error field");
-        assertTrue(response.body().contains("INTERNAL_SERVER_ERROR"), "Error should indicate server error");
+        assertNotNull(response.error(), "Response should contain error field");
+        assertEquals("INTERNAL_SERVER_ERROR", response.error().error(), "Error should indicate server error");
     }
 
     // ============================================
@@ -658,27 +581,19 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testGetAddressLegacy5Lines(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID300001/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-legacy-11111")
-                .GET()
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        AddressResponse response = client.getAddress("CID300001", "corr-legacy-11111");
 
         // Assertions
         assertEquals(200, response.statusCode(), "Should return 200 OK");
-        assertTrue(response.body().contains("\"data\""), "Response should contain data array");
-        assertTrue(response.body().contains("Apartment 12"), "Response should contain apartment number");
-        assertTrue(response.body().contains("The Royal Chambers"), "Response should contain building name");
-        assertTrue(response.body().contains("45 Victoria Street"), "Response should contain street");
-        assertTrue(response.body().contains("Westminster"), "Response should contain district");
-        assertTrue(response.body().contains("London"), "Response should contain city");
-        assertTrue(response.body().contains("SW1H 0NW"), "Response should contain UK postcode");
+        assertFalse(response.address().data().isEmpty(), "Response should contain data array");
+        assertTrue(response.address().data().contains("Apartment 12"), "Response should contain apartment number");
+        assertTrue(response.address().data().contains("The Royal Chambers"), "Response should contain building name");
+        assertTrue(response.address().data().contains("45 Victoria Street"), "Response should contain street");
+        assertTrue(response.address().data().contains("Westminster"), "Response should contain district");
+        assertTrue(response.address().data().contains("London"), "Response should contain city");
+        assertEquals("SW1H 0NW", response.address().postcode(), "Response should contain UK postcode");
     }
 
     // ============================================
@@ -756,43 +671,24 @@ public class PersonAddressServicePactV4 extends WireMockServiceV1 {
     @Severity(SeverityLevel.CRITICAL)
     @Owner("QA Team")
     void testPostAddressLegacy5Lines(MockServer mockServer) throws Exception {
-        HttpClient client = HttpClient.newHttpClient();
-        URI uri = URI.create(mockServer.getUrl() + "/citizen/CID300002/address");
+        PersonAddressClient client = PersonAddressClient.create(mockServer.getUrl());
 
         // Request payload with UK legacy 5-line address format
-        String requestJson = """
-            {
-              "address_lines": [
-                "Flat 7C",
-                "Windsor Court",
-                "123 Kensington Road",
-                "Kensington",
-                "London"
-              ],
-              "postcode": "W8 5SA",
-              "country_code": "GB"
-            }
-            """;
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(uri)
-                .header("Content-Type", "application/json")
-                .header("Subsystem-Id", "CONSUMER_SYSTEM_001")
-                .header("Correlation-Id", "corr-legacy-22222")
-                .POST(HttpRequest.BodyPublishers.ofString(requestJson))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        CreateAddressRequest request = new CreateAddressRequest(
+                List.of("Flat 7C", "Windsor Court", "123 Kensington Road", "Kensington", "London"),
+                "W8 5SA", "GB");
+
+        AddressResponse response = client.createAddress("CID300002", request, "corr-legacy-22222");
 
         // Assertions
         assertEquals(201, response.statusCode(), "Should return 201 Created");
-        assertTrue(response.body().contains("\"data\""), "Response should contain data array");
-        assertTrue(response.body().contains("Flat 7C"), "Response should contain flat number");
-        assertTrue(response.body().contains("Windsor Court"), "Response should contain building name");
-        assertTrue(response.body().contains("123 Kensington Road"), "Response should contain street");
-        assertTrue(response.body().contains("Kensington"), "Response should contain district");
-        assertTrue(response.body().contains("London"), "Response should contain city");
-        assertTrue(response.body().contains("W8 5SA"), "Response should contain UK postcode");
-        assertTrue(response.body().contains("\"timeliness\""), "Response should contain timeliness");
+        assertFalse(response.address().data().isEmpty(), "Response should contain data array");
+        assertTrue(response.address().data().contains("Flat 7C"), "Response should contain flat number");
+        assertTrue(response.address().data().contains("Windsor Court"), "Response should contain building name");
+        assertTrue(response.address().data().contains("123 Kensington Road"), "Response should contain street");
+        assertTrue(response.address().data().contains("Kensington"), "Response should contain district");
+        assertTrue(response.address().data().contains("London"), "Response should contain city");
+        assertEquals("W8 5SA", response.address().postcode(), "Response should contain UK postcode");
+        assertNotNull(response.address().timeliness(), "Response should contain timeliness");
     }
 }
\ No newline at end of file
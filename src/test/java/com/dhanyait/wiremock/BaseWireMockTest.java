@@ -7,30 +7,28 @@ import org.junit.jupiter.api.BeforeAll;
 
 public abstract class BaseWireMockTest {
 
+    private static final SharedWireMockServer SHARED = new SharedWireMockServer("WireMock server",
+            WireMockConfiguration.options().usingFilesUnderClasspath("wiremock"), server -> { });
+
     protected static WireMockServer wireMockServer;
 
     @BeforeAll
     static void initWireMock() {
-        // Start WireMock if not already running
-        // WireMock will be used when baseUrl is set to http://localhost:9090
-        // or when running tests that extend this base class
-        if (wireMockServer == null) {
-            System.out.println("Starting WireMock server on port 9090...");
-            wireMockServer = new WireMockServer(
-                    WireMockConfiguration.options()
-                            .port(9090)
-                            .usingFilesUnderClasspath("wiremock")
-            );
-            wireMockServer.start();
-            System.out.println("WireMock server started at: http://localhost:9090");
-        }
+        // Start WireMock for every test that extends this base class, once per JVM,
+        // on an ephemeral port; see baseUrl() for where it ended up
+        wireMockServer = SHARED.acquire();
     }
 
     @AfterAll
     static void shutdownWireMock() {
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            wireMockServer.stop();
-            wireMockServer = null;
-        }
+        // Stops the server once the last concurrently running subclass is done
+        SHARED.release();
+    }
+
+    /**
+     * @return base URL of the running WireMock server, e.g. http://localhost:53117
+     */
+    protected static String baseUrl() {
+        return SHARED.baseUrl();
     }
 }
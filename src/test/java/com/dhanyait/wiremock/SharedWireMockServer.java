@@ -0,0 +1,90 @@
+package com.dhanyait.wiremock;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reference-counted WireMock server shared by the test classes of one JVM (one Surefire fork)
+ *
+ * The server binds an ephemeral port unless {@code -Dwiremock.port} is set, so
+ * parallel forks never collide. Its actual URL is only available from
+ * {@link #baseUrl()}: no JVM-wide property is written, so the servers of one JVM
+ * never overwrite each other's address. The first {@link #acquire()} starts it
+ * and the last {@link #release()} stops it, so test classes running concurrently
+ * in one JVM never stop it under each other.
+ *
+ * Mock mode is requested with {@code -DbaseUrl=mock}; the legacy value
+ * {@code http://localhost:9090} is still accepted.
+ */
+final class SharedWireMockServer {
+
+    static final String BASE_URL_PROPERTY = "baseUrl";
+    static final String PORT_PROPERTY = "wiremock.port";
+    static final String MOCK = "mock";
+    static final String LEGACY_MOCK_URL = "http://localhost:9090";
+
+    private static final boolean MOCK_REQUESTED = isMock(System.getProperty(BASE_URL_PROPERTY, ""));
+
+    private final String name;
+    private final WireMockConfiguration options;
+    private final Consumer<WireMockServer> stubs;
+    private WireMockServer server;
+    private int users;
+
+    /**
+     * @param options configuration without a port; the port is chosen here
+     * @param stubs   registers stubs after the server has started
+     */
+    SharedWireMockServer(String name, WireMockConfiguration options, Consumer<WireMockServer> stubs) {
+        this.name = name;
+        this.options = options.port(Integer.getInteger(PORT_PROPERTY, 0));
+        this.stubs = stubs;
+    }
+
+    /**
+     * @return true if the run asked for mock servers instead of a real service
+     */
+    static boolean isMockRequested() {
+        return MOCK_REQUESTED;
+    }
+
+    static boolean isMock(String baseUrl) {
+        return baseUrl.equals(MOCK) || baseUrl.equals(LEGACY_MOCK_URL);
+    }
+
+    synchronized WireMockServer acquire() {
+        if (server == null) {
+            long start = System.nanoTime();
+            WireMockServer started = new WireMockServer(options);
+            started.start();
+            stubs.accept(started);
+            server = started;
+            System.out.printf("%s started at: %s with %d stubs in %d ms%n", name, started.baseUrl(),
+                    started.getStubMappings().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        users++;
+        return server;
+    }
+
+    synchronized void release() {
+        if (users == 0) {
+            return;
+        }
+        if (--users == 0) {
+            if (server.isRunning()) {
+                server.stop();
+            }
+            server = null;
+        }
+    }
+
+    /**
+     * @return the running server's base URL, or null when it is not running
+     */
+    synchronized String baseUrl() {
+        return server != null ? server.baseUrl() : null;
+    }
+}
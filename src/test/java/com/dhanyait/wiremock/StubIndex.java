@@ -0,0 +1,133 @@
+package com.dhanyait.wiremock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory index of the JSON stub files under the {@code stubs} classpath directory
+ *
+ * The directory is scanned once per JVM, from the file system or from a packaged
+ * test jar, and every body is held as a byte array keyed by method, scenario and
+ * qualifier, following the stub naming convention:
+ * - get/get-address-{scenario}-{citizenId}.json  -> (GET, scenario, citizenId)
+ * - post/post-address-{scenario}-request.json    -> (POST, scenario, "request")
+ * - post/post-address-{scenario}-response.json   -> (POST, scenario, "response")
+ *
+ * Returned arrays are shared; callers must not modify them.
+ */
+final class StubIndex {
+
+    static final String STUBS_DIRECTORY = "stubs";
+
+    /**
+     * @param method    upper-case HTTP method, e.g. GET
+     * @param scenario  scenario name, e.g. success or notfound
+     * @param qualifier citizen ID for GET stubs, request or response for POST stubs
+     */
+    record Key(String method, String scenario, String qualifier) {
+
+        static Key fromFileName(String fileName) {
+            String name = fileName.substring(0, fileName.length() - ".json".length());
+            String[] parts = name.split("-");
+            if (parts.length < 4 || !parts[1].equals("address")) {
+                throw new IllegalArgumentException("Stub file does not follow the naming convention: " + fileName);
+            }
+            String scenario = String.join("-", List.of(parts).subList(2, parts.length - 1));
+            return new Key(parts[0].toUpperCase(Locale.ROOT), scenario, parts[parts.length - 1]);
+        }
+    }
+
+    private final Map<Key, byte[]> bodies;
+
+    private StubIndex(Map<Key, byte[]> bodies) {
+        this.bodies = Map.copyOf(bodies);
+    }
+
+    /**
+     * @return the index of the {@code stubs} classpath directory, scanned on first use
+     */
+    static StubIndex classpath() {
+        return Holder.INSTANCE;
+    }
+
+    byte[] body(String method, String scenario, String qualifier) {
+        byte[] body = bodies.get(new Key(method, scenario, qualifier));
+        if (body == null) {
+            throw new IllegalStateException("No stub file for " + method + " " + scenario + " " + qualifier);
+        }
+        return body;
+    }
+
+    Set<Key> keys() {
+        return bodies.keySet();
+    }
+
+    int size() {
+        return bodies.size();
+    }
+
+    private static StubIndex scan(String directory) {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(directory);
+        if (url == null) {
+            throw new IllegalStateException("Stub directory not found on classpath: " + directory);
+        }
+        try {
+            URI uri = url.toURI();
+            if (uri.getScheme().equals("jar")) {
+                return scan(jarFileSystem(uri).getPath(directory));
+            }
+            return scan(Path.of(uri));
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid stub directory URL: " + url, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan stub directory: " + url, e);
+        }
+    }
+
+    private static StubIndex scan(Path root) throws IOException {
+        // A handful of small files: a plain loop beats the fork/join start-up of a parallel stream
+        Map<Key, byte[]> bodies = new HashMap<>();
+        try (DirectoryStream<Path> methods = Files.newDirectoryStream(root)) {
+            for (Path method : methods) {
+                if (!Files.isDirectory(method)) {
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(method)) {
+                    for (Path file : files) {
+                        String fileName = file.getFileName().toString();
+                        if (fileName.endsWith(".json")) {
+                            bodies.put(Key.fromFileName(fileName), Files.readAllBytes(file));
+                        }
+                    }
+                }
+            }
+        }
+        return new StubIndex(bodies);
+    }
+
+    private static FileSystem jarFileSystem(URI uri) throws IOException {
+        try {
+            return FileSystems.newFileSystem(uri, Map.of());
+        } catch (FileSystemAlreadyExistsException e) {
+            return FileSystems.getFileSystem(uri);
+        }
+    }
+
+    private static final class Holder {
+        private static final StubIndex INSTANCE = scan(STUBS_DIRECTORY);
+    }
+}
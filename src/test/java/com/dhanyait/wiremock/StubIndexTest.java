@@ -0,0 +1,49 @@
+package com.dhanyait.wiremock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Stub Index")
+class StubIndexTest {
+
+    @Test
+    @DisplayName("Indexes every stub file on the classpath")
+    void indexesClasspathStubs() {
+        StubIndex index = StubIndex.classpath();
+
+        assertTrue(index.keys().containsAll(List.of(
+                new StubIndex.Key("GET", "success", "CID123456"),
+                new StubIndex.Key("GET", "notfound", "CID999999"),
+                new StubIndex.Key("GET", "servererror", "CID777777"),
+                new StubIndex.Key("GET", "legacy5lines", "CID300001"),
+                new StubIndex.Key("POST", "success", "request"),
+                new StubIndex.Key("POST", "success", "response"),
+                new StubIndex.Key("POST", "badrequest", "response"))));
+        assertEquals(index.keys().size(), index.size());
+        assertSame(index, StubIndex.classpath());
+        String body = new String(index.body("GET", "success", "CID123456"), StandardCharsets.UTF_8);
+        assertTrue(body.contains("SW1A 1AA"));
+        assertTrue(index.body("POST", "legacy5lines", "request").length > 0);
+    }
+
+    @Test
+    @DisplayName("Parses method, scenario and qualifier from the file name")
+    void parsesFileNames() {
+        assertEquals(new StubIndex.Key("GET", "notfound", "CID999999"),
+                StubIndex.Key.fromFileName("get-address-notfound-CID999999.json"));
+        assertEquals(new StubIndex.Key("POST", "bad-request", "response"),
+                StubIndex.Key.fromFileName("post-address-bad-request-response.json"));
+        assertThrows(IllegalArgumentException.class, () -> StubIndex.Key.fromFileName("notes.json"));
+    }
+
+    @Test
+    @DisplayName("Reports unknown stubs clearly")
+    void rejectsUnknownStub() {
+        assertThrows(IllegalStateException.class, () -> StubIndex.classpath().body("GET", "success", "CID000000"));
+    }
+}
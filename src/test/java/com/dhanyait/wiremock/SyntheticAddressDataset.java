@@ -0,0 +1,98 @@
+package com.dhanyait.wiremock;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Deterministic, generated address dataset for load testing the Citizen Address API
+ *
+ * Citizen {@code CID<n>} exists for every n in [0, size) and its address body is
+ * generated from n on demand, so any of millions of citizens resolves in O(1)
+ * time with no per-citizen memory. The same CID always yields the same body.
+ */
+final class SyntheticAddressDataset {
+
+    private static final String[] STREETS = {
+            "High Street", "Station Road", "Church Lane", "Victoria Road", "Green Lane",
+            "Manor Road", "Park Avenue", "Queens Road", "Mill Lane", "Kings Road"
+    };
+    private static final String[] TOWNS = {
+            "London", "Birmingham", "Manchester", "Leeds", "Glasgow",
+            "Liverpool", "Bristol", "Cardiff", "Edinburgh", "Belfast"
+    };
+    private static final String[] OUTWARD_CODES = {
+            "SW1A", "B33", "M1", "LS1", "G2", "L1", "BS1", "CF10", "EH1", "BT1"
+    };
+    private static final String INWARD_LETTERS = "ABDEFGHJLNPQRSTUWXYZ";
+    private static final String[] ADDRESS_TYPES = {"RESIDENTIAL", "CORRESPONDENCE", "BUSINESS"};
+
+    /** Large odd multiplier spreading consecutive citizen numbers across the field values */
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final long size;
+
+    SyntheticAddressDataset(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        this.size = size;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return the citizen number of a {@code CID<digits>} ID inside the dataset, or -1
+     *         if the digits are not the canonical decimal form (e.g. CID0012345), so
+     *         every citizen has exactly one ID
+     */
+    long indexOf(String cid) {
+        if (cid == null || cid.length() < 4 || cid.length() > 21 || !cid.startsWith("CID")) {
+            return -1;
+        }
+        if (cid.charAt(3) == '0' && cid.length() > 4) {
+            return -1;
+        }
+        long number = 0;
+        for (int i = 3; i < cid.length(); i++) {
+            char c = cid.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+            if (number >= size) {
+                return -1;
+            }
+        }
+        return number;
+    }
+
+    /**
+     * @return the GET /citizen/{cid}/address body of citizen {@code index}
+     */
+    byte[] body(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("citizen " + index + " outside dataset of " + size);
+        }
+        long h = index * MIX;
+        int street = field(h, 0, STREETS.length);
+        int town = field(h, 8, TOWNS.length);
+        int house = 1 + field(h, 16, 250);
+        int inwardDigit = field(h, 24, 10);
+        char first = INWARD_LETTERS.charAt(field(h, 32, INWARD_LETTERS.length()));
+        char second = INWARD_LETTERS.charAt(field(h, 40, INWARD_LETTERS.length()));
+        String type = ADDRESS_TYPES[field(h, 48, ADDRESS_TYPES.length)];
+
+        String json = "{\"data\":[\"" + house + " " + STREETS[street] + "\",\"" + TOWNS[town] + "\"],"
+                + "\"postcode\":\"" + OUTWARD_CODES[town] + " " + inwardDigit + first + second + "\","
+                + "\"addressTypeId\":\"" + type + "\","
+                + "\"addressStatusType\":\"CURRENT\","
+                + "\"timeliness\":{\"createdDate\":\"2024-01-15T10:30:45.123Z\","
+                + "\"lastUpdateDate\":\"2024-02-01T14:20:30.456Z\"}}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int field(long hash, int shift, int bound) {
+        return (int) (((hash >>> shift) & 0xFF) % bound);
+    }
+}
@@ -0,0 +1,71 @@
+package com.dhanyait.wiremock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves GET /citizen/{cid}/address responses for a single templated WireMock route
+ *
+ * Lookup order, each step O(1):
+ * 1. GET stub files from the {@link StubIndex}, keyed by CID, including the special
+ *    CIDs CID999999 (404) and CID777777 (500)
+ * 2. the generated {@link SyntheticAddressDataset}
+ * 3. anything else is 404 Not Found
+ */
+final class SyntheticAddressEngine {
+
+    record Resolved(int status, byte[] body) {
+    }
+
+    private final Map<String, Resolved> overrides;
+    private final SyntheticAddressDataset dataset;
+
+    SyntheticAddressEngine(StubIndex stubs, SyntheticAddressDataset dataset) {
+        Map<String, Resolved> overrides = new HashMap<>();
+        stubs.keys().stream()
+                .filter(key -> key.method().equals("GET"))
+                .forEach(key -> overrides.put(key.qualifier(),
+                        new Resolved(statusOf(key.scenario()), stubs.body(key.method(), key.scenario(), key.qualifier()))));
+        this.overrides = Map.copyOf(overrides);
+        this.dataset = dataset;
+    }
+
+    Resolved resolve(String cid) {
+        Resolved override = overrides.get(cid);
+        if (override != null) {
+            return override;
+        }
+        long index = dataset.indexOf(cid);
+        if (index >= 0) {
+            return new Resolved(200, dataset.body(index));
+        }
+        return new Resolved(404, notFound(cid));
+    }
+
+    /**
+     * Extract the CID from a /citizen/{cid}/address URL, or null if the URL does not match
+     */
+    static String cidOf(String url) {
+        int query = url.indexOf('?');
+        String path = query >= 0 ? url.substring(0, query) : url;
+        if (!path.startsWith("/citizen/") || !path.endsWith("/address")) {
+            return null;
+        }
+        String cid = path.substring("/citizen/".length(), path.length() - "/address".length());
+        return cid.isEmpty() || cid.indexOf('/') >= 0 ? null : cid;
+    }
+
+    private static int statusOf(String scenario) {
+        return switch (scenario) {
+            case "notfound" -> 404;
+            case "servererror" -> 500;
+            default -> 200;
+        };
+    }
+
+    private static byte[] notFound(String cid) {
+        return ("{\"error\":\"NOT_FOUND\",\"message\":\"Citizen with ID " + cid + " not found\","
+                + "\"timestamp\":\"2024-02-04T12:00:00.000Z\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
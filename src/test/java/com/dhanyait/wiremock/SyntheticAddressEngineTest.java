@@ -0,0 +1,74 @@
+package com.dhanyait.wiremock;
+
+import com.dhanyait.address.PostcodeCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Synthetic Address Engine")
+class SyntheticAddressEngineTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SyntheticAddressEngine engine =
+            new SyntheticAddressEngine(StubIndex.classpath(), new SyntheticAddressDataset(5_000_000));
+
+    @Test
+    @DisplayName("Special and file-backed CIDs take precedence over generated citizens")
+    void layersStubFilesOnTop() throws Exception {
+        assertEquals(404, engine.resolve("CID999999").status());
+        assertEquals(500, engine.resolve("CID777777").status());
+
+        SyntheticAddressEngine.Resolved known = engine.resolve("CID123456");
+        assertEquals(200, known.status());
+        assertEquals("Flat 5B", MAPPER.readTree(known.body()).get("data").get(0).asText());
+    }
+
+    @Test
+    @DisplayName("Generates stable, valid addresses for millions of citizens")
+    void generatesCitizens() throws Exception {
+        for (String cid : new String[]{"CID0", "CID1", "CID1234567", "CID4999999"}) {
+            SyntheticAddressEngine.Resolved resolved = engine.resolve(cid);
+            assertEquals(200, resolved.status(), cid);
+            assertArrayEquals(resolved.body(), engine.resolve(cid).body());
+
+            JsonNode body = MAPPER.readTree(resolved.body());
+            assertEquals(2, body.get("data").size());
+            PostcodeCodec.encode(body.get("postcode").asText());
+        }
+        assertNotEquals(new String(engine.resolve("CID1000001").body()), new String(engine.resolve("CID1000002").body()));
+    }
+
+    @Test
+    @DisplayName("CIDs outside the dataset are not found")
+    void rejectsUnknownCids() throws Exception {
+        for (String cid : new String[]{"CID5000000", "CIDX1", "ABC123", "CID"}) {
+            SyntheticAddressEngine.Resolved resolved = engine.resolve(cid);
+            assertEquals(404, resolved.status(), cid);
+            assertEquals("Citizen with ID " + cid + " not found", MAPPER.readTree(resolved.body()).get("message").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Zero-padded CIDs do not alias generated citizens")
+    void rejectsLeadingZeros() throws Exception {
+        assertEquals(200, engine.resolve("CID12345").status());
+        for (String cid : new String[]{"CID0012345", "CID012345", "CID00", "CID000001"}) {
+            SyntheticAddressEngine.Resolved resolved = engine.resolve(cid);
+            assertEquals(404, resolved.status(), cid);
+            assertEquals("Citizen with ID " + cid + " not found", MAPPER.readTree(resolved.body()).get("message").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Extracts the CID from the request URL")
+    void extractsCid() {
+        assertEquals("CID123456", SyntheticAddressEngine.cidOf("/citizen/CID123456/address"));
+        assertEquals("CID123456", SyntheticAddressEngine.cidOf("/citizen/CID123456/address?verbose=true"));
+        assertNull(SyntheticAddressEngine.cidOf("/citizen//address"));
+        assertNull(SyntheticAddressEngine.cidOf("/person/CID123456"));
+    }
+}
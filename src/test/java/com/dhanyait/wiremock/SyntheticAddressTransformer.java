@@ -0,0 +1,49 @@
+package com.dhanyait.wiremock;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformer;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+
+/**
+ * WireMock extension answering the templated /citizen/{cid}/address route from a {@link SyntheticAddressEngine}
+ *
+ * Only applies to stubs that name it via {@code withTransformers(SyntheticAddressTransformer.NAME)}.
+ */
+public class SyntheticAddressTransformer extends ResponseDefinitionTransformer {
+
+    public static final String NAME = "synthetic-address";
+
+    private final SyntheticAddressEngine engine;
+
+    SyntheticAddressTransformer(SyntheticAddressEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public ResponseDefinition transform(Request request, ResponseDefinition responseDefinition,
+                                        FileSource files, Parameters parameters) {
+        String cid = SyntheticAddressEngine.cidOf(request.getUrl());
+        if (cid == null) {
+            return responseDefinition;
+        }
+        SyntheticAddressEngine.Resolved resolved = engine.resolve(cid);
+        return new ResponseDefinitionBuilder()
+                .withStatus(resolved.status())
+                .withHeader("Content-Type", "application/json")
+                .withBody(resolved.body())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+}
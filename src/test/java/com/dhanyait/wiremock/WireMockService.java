@@ -16,30 +16,37 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
  */
 public class WireMockService {
 
+    private static final SharedWireMockServer SHARED = new SharedWireMockServer("WireMock server",
+            WireMockConfiguration.options(), server -> {
+                wireMockServer = server;
+                setupStubs();
+            });
+
     private static WireMockServer wireMockServer;
 
+    /**
+     * Start (or join) this JVM's mock server when the mock profile is selected
+     *
+     * The server binds an ephemeral port, see {@link #baseUrl()}; every call must
+     * be paired with {@link #stopIfRunning()}.
+     */
     public static void startIfRequired() {
-        String baseUrl = System.getProperty("baseUrl", "");
-
         // Only start WireMock when mock profile is selected
-        if (!baseUrl.equals("http://localhost:9090")) {
+        if (!SharedWireMockServer.isMockRequested()) {
             return;
         }
-
-        if (wireMockServer == null) {
-            wireMockServer = new WireMockServer(
-                    WireMockConfiguration.options().port(9090)
-            );
-            wireMockServer.start();
-            setupStubs();
-        }
+        SHARED.acquire();
     }
 
     public static void stopIfRunning() {
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            wireMockServer.stop();
-            wireMockServer = null;
-        }
+        SHARED.release();
+    }
+
+    /**
+     * @return base URL of the running mock server, or null when it is not running
+     */
+    public static String baseUrl() {
+        return SHARED.baseUrl();
     }
 
     private static void setupStubs() {
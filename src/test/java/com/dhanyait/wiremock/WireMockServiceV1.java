@@ -1,13 +1,13 @@
 package com.dhanyait.wiremock;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 
@@ -18,53 +18,55 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
  * - GET /citizen/{cid}/address
  * - POST /citizen/{cid}/address
  *
- * All stub responses are externalized to JSON files in test/resources/stubs/
+ * All stub responses are externalized to JSON files in test/resources/stubs/,
+ * loaded once from the classpath into an in-memory {@link StubIndex}.
+ * Nothing is loaded, and no server is configured, unless the mock profile is selected.
+ *
+ * Any other GET /citizen/{cid}/address is answered by one lower-priority templated
+ * route backed by a generated dataset of {@code wiremock.syntheticCitizens}
+ * citizens (default 1,000,000), see {@link SyntheticAddressEngine}.
  *
  * Supports multiple HTTP status codes: 200, 201, 400, 404, 500
  */
 public abstract class WireMockServiceV1 {
 
-    private static WireMockServer wireMockServer;
-    private static final String STUBS_BASE_PATH = "src/test/resources/stubs";
+    private static final long DEFAULT_SYNTHETIC_CITIZENS = 1_000_000;
+    private static final int SYNTHETIC_ROUTE_PRIORITY = 10;
+    private static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1_000;
 
     @BeforeAll
     public static void startIfRequired() {
-        String baseUrl = System.getProperty("baseUrl", "");
-
-        // Only start WireMock when mock profile is selected
-        if (!baseUrl.equals("http://localhost:9090")) {
+        // Only start WireMock when mock profile is selected; one server per JVM,
+        // shared by concurrently running subclasses, on an ephemeral port
+        if (!SharedWireMockServer.isMockRequested()) {
             return;
         }
-
-        if (wireMockServer == null) {
-            wireMockServer = new WireMockServer(
-                    WireMockConfiguration.options().port(9090)
-            );
-            wireMockServer.start();
-            setupStubs();
-        }
+        Shared.INSTANCE.acquire();
     }
 
     @AfterAll
     public static void stopIfRunning() {
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            wireMockServer.stop();
-            wireMockServer = null;
+        if (SharedWireMockServer.isMockRequested()) {
+            Shared.INSTANCE.release();
         }
     }
 
     /**
-     * Helper method to read JSON content from external stub files
+     * @return base URL of the running mock server, or null when it is not running
      */
-    private static String readStubFile(String filePath) {
-        try {
-            return Files.readString(Paths.get(STUBS_BASE_PATH, filePath));
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read stub file: " + filePath, e);
-        }
+    protected static String baseUrl() {
+        return SharedWireMockServer.isMockRequested() ? Shared.INSTANCE.baseUrl() : null;
     }
 
-    private static void setupStubs() {
+    /**
+     * Helper method to look up a stub body in the classpath stub index
+     */
+    private static byte[] stubBody(String method, String scenario, String qualifier) {
+        return StubIndex.classpath().body(method, scenario, qualifier);
+    }
+
+    private static void setupStubs(WireMockServer wireMockServer) {
+        List<MappingBuilder> stubs = new ArrayList<>();
 
         // ========================================================================
         // GET /citizen/{cid}/address - SUCCESS (200)
@@ -77,13 +79,13 @@ public abstract class WireMockServiceV1 {
          * Returns: Complete address details with UK address (Flat 5B, SW1A 1AA)
          * Status: 200 OK
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID123456/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID123456/address"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-success-CID123456.json"))
+                        .withBody(stubBody("GET", "success", "CID123456"))
                 ));
 
         // ========================================================================
@@ -97,13 +99,13 @@ public abstract class WireMockServiceV1 {
          * Returns: Error message indicating citizen not found
          * Status: 404 Not Found
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID999999/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID999999/address"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(404)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-notfound-CID999999.json"))
+                        .withBody(stubBody("GET", "notfound", "CID999999"))
                 ));
 
         // ========================================================================
@@ -117,13 +119,13 @@ public abstract class WireMockServiceV1 {
          * Returns: Internal server error message
          * Status: 500 Internal Server Error
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID777777/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID777777/address"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(500)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-servererror-CID777777.json"))
+                        .withBody(stubBody("GET", "servererror", "CID777777"))
                 ));
 
         // ========================================================================
@@ -139,7 +141,7 @@ public abstract class WireMockServiceV1 {
          * Returns: Created address with generated metadata
          * Status: 201 Created
          */
-        wireMockServer.stubFor(post(urlEqualTo("/citizen/CID123456/address"))
+        stubs.add(post(urlEqualTo("/citizen/CID123456/address"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
@@ -149,7 +151,7 @@ public abstract class WireMockServiceV1 {
                 .willReturn(aResponse()
                         .withStatus(201)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("post/post-address-success-response.json"))
+                        .withBody(stubBody("POST", "success", "response"))
                 ));
 
         // ========================================================================
@@ -167,7 +169,7 @@ public abstract class WireMockServiceV1 {
          *
          * Note: Uses separate endpoint to distinguish from valid requests
          */
-        wireMockServer.stubFor(post(urlEqualTo("/citizen/CID400BAD/address"))
+        stubs.add(post(urlEqualTo("/citizen/CID400BAD/address"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
@@ -176,7 +178,7 @@ public abstract class WireMockServiceV1 {
                 .willReturn(aResponse()
                         .withStatus(400)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("post/post-address-badrequest-response.json"))
+                        .withBody(stubBody("POST", "badrequest", "response"))
                 ));
 
         // ========================================================================
@@ -192,14 +194,14 @@ public abstract class WireMockServiceV1 {
          * Returns: Error message indicating citizen not found
          * Status: 404 Not Found
          */
-        wireMockServer.stubFor(post(urlEqualTo("/citizen/CID888888/address"))
+        stubs.add(post(urlEqualTo("/citizen/CID888888/address"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(404)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("post/post-address-notfound-response.json"))
+                        .withBody(stubBody("POST", "notfound", "response"))
                 ));
 
         // ========================================================================
@@ -215,14 +217,14 @@ public abstract class WireMockServiceV1 {
          * Returns: Internal server error message
          * Status: 500 Internal Server Error
          */
-        wireMockServer.stubFor(post(urlEqualTo("/citizen/CID555555/address"))
+        stubs.add(post(urlEqualTo("/citizen/CID555555/address"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(500)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("post/post-address-servererror-response.json"))
+                        .withBody(stubBody("POST", "servererror", "response"))
                 ));
 
         // ========================================================================
@@ -235,13 +237,13 @@ public abstract class WireMockServiceV1 {
          * Response File: get/get-address-downingstreet-CID200001.json
          * Famous address: UK Prime Minister's residence
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID200001/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID200001/address"))
                 .withHeader("Subsystem-Id", matching(".*"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-downingstreet-CID200001.json"))
+                        .withBody(stubBody("GET", "downingstreet", "CID200001"))
                 ));
 
         /**
@@ -250,13 +252,13 @@ public abstract class WireMockServiceV1 {
          * Response File: get/get-address-edinburghcastle-CID200002.json
          * Famous address: Historic Scottish castle
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID200002/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID200002/address"))
                 .withHeader("Subsystem-Id", matching(".*"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-edinburghcastle-CID200002.json"))
+                        .withBody(stubBody("GET", "edinburghcastle", "CID200002"))
                 ));
 
         /**
@@ -265,13 +267,13 @@ public abstract class WireMockServiceV1 {
          * Response File: get/get-address-cardiffcityhall-CID200003.json
          * Famous address: Welsh government building
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID200003/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID200003/address"))
                 .withHeader("Subsystem-Id", matching(".*"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-cardiffcityhall-CID200003.json"))
+                        .withBody(stubBody("GET", "cardiffcityhall", "CID200003"))
                 ));
 
         /**
@@ -280,13 +282,13 @@ public abstract class WireMockServiceV1 {
          * Response File: get/get-address-belfastcityhall-CID200004.json
          * Famous address: Northern Ireland civic building
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID200004/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID200004/address"))
                 .withHeader("Subsystem-Id", matching(".*"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-belfastcityhall-CID200004.json"))
+                        .withBody(stubBody("GET", "belfastcityhall", "CID200004"))
                 ));
 
         // ========================================================================
@@ -305,13 +307,13 @@ public abstract class WireMockServiceV1 {
          * - Line 5: City/Town
          * Example: Apartment 12, The Royal Chambers, 45 Victoria Street, Westminster, London
          */
-        wireMockServer.stubFor(get(urlEqualTo("/citizen/CID300001/address"))
+        stubs.add(get(urlEqualTo("/citizen/CID300001/address"))
                 .withHeader("Subsystem-Id", matching(".*"))
                 .withHeader("Correlation-Id", matching(".*"))
                 .willReturn(aResponse()
                         .withStatus(200)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("get/get-address-legacy5lines-CID300001.json"))
+                        .withBody(stubBody("GET", "legacy5lines", "CID300001"))
                 ));
 
         /**
@@ -322,7 +324,7 @@ public abstract class WireMockServiceV1 {
          * Creates address with full 5-line UK legacy format
          * Example: Flat 7C, Windsor Court, 123 Kensington Road, Kensington, London
          */
-        wireMockServer.stubFor(post(urlEqualTo("/citizen/CID300002/address"))
+        stubs.add(post(urlEqualTo("/citizen/CID300002/address"))
                 .withHeader("Content-Type", equalTo("application/json"))
                 .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
                 .withHeader("Correlation-Id", matching(".*"))
@@ -332,7 +334,49 @@ public abstract class WireMockServiceV1 {
                 .willReturn(aResponse()
                         .withStatus(201)
                         .withHeader("Content-Type", "application/json")
-                        .withBody(readStubFile("post/post-address-legacy5lines-response.json"))
+                        .withBody(stubBody("POST", "legacy5lines", "response"))
                 ));
+
+        // ========================================================================
+        // SYNTHETIC CITIZENS - single templated route for load testing
+        // ========================================================================
+
+        /**
+         * Stub: GET - any other citizen
+         * Citizen ID: CID0 .. CID<wiremock.syntheticCitizens - 1>, generated on demand
+         * Special CIDs (CID999999 -> 404, CID777777 -> 500) and the file-backed
+         * CIDs above resolve to the same bodies; unknown CIDs return 404
+         * Lower priority than the explicit stubs, so those still match first, and
+         * requires the same Subsystem-Id, so a request the explicit stubs reject for
+         * its headers is not answered here instead
+         */
+        stubs.add(get(urlPathMatching("/citizen/[^/]+/address"))
+                .atPriority(SYNTHETIC_ROUTE_PRIORITY)
+                .withHeader("Subsystem-Id", equalTo("CONSUMER_SYSTEM_001"))
+                .withHeader("Correlation-Id", matching(".*"))
+                .willReturn(aResponse()
+                        .withTransformers(SyntheticAddressTransformer.NAME)
+                ));
+
+        for (MappingBuilder stub : stubs) {
+            wireMockServer.stubFor(stub);
+        }
+    }
+
+    /**
+     * Builds the stub index, synthetic dataset and server configuration on first use,
+     * i.e. only once a mock run actually starts the server
+     */
+    private static final class Shared {
+        private static final SharedWireMockServer INSTANCE = new SharedWireMockServer("WireMock server",
+                WireMockConfiguration.options()
+                        // Load runs would otherwise keep every request in memory
+                        .maxRequestJournalEntries(Integer.getInteger("wiremock.maxJournalEntries",
+                                DEFAULT_MAX_JOURNAL_ENTRIES))
+                        .extensions(new SyntheticAddressTransformer(new SyntheticAddressEngine(
+                                StubIndex.classpath(),
+                                new SyntheticAddressDataset(Long.getLong("wiremock.syntheticCitizens",
+                                        DEFAULT_SYNTHETIC_CITIZENS))))),
+                WireMockServiceV1::setupStubs);
     }
-}
\ No newline at end of file
+}